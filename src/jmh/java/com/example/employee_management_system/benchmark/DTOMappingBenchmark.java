@@ -0,0 +1,49 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.DTO.DTOMapper;
+import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.DTO.ProjectDTO;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping used by createEmployee (one employee) and
+ * updateProject (a project with all of its employees).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DTOMappingBenchmark {
+
+    @Param({"20", "2000"})
+    public int employees;
+
+    private Employee employee;
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        employee = OrgFixtures.employees(employees).get(0);
+        project = employee.getProjects().get(0);
+    }
+
+    @Benchmark
+    public EmployeeDTO mapEmployee() {
+        return DTOMapper.toEmployeeDTO(employee);
+    }
+
+    @Benchmark
+    public ProjectDTO mapProjectWithEmployees() {
+        return DTOMapper.toProjectDTO(project);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.DTO.DTOMapper;
+import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.EntityViews;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of employee lists as entity graphs (what the entity
+ * endpoints return) and as DTOs (what the read endpoints return), with
+ * reflection-based property access and with Blackbird's generated accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int employees;
+
+    @Param({"reflection", "blackbird"})
+    public String mapper;
+
+    private ObjectWriter entityWriter;
+    private ObjectWriter viewWriter;
+    private ObjectWriter dtoWriter;
+    private List<Employee> entities;
+    private List<EmployeeDTO> dtos;
+
+    @Setup
+    public void setUp() {
+        // Same mapper configuration as the application ObjectMapper (JacksonConfig)
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("blackbird".equals(mapper)) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        ObjectMapper objectMapper = builder.build();
+        entityWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, Employee.class));
+        viewWriter = entityWriter.withView(EntityViews.WithAssociations.class);
+        dtoWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, EmployeeDTO.class));
+        entities = OrgFixtures.employees(employees);
+        dtos = entities.stream().map(DTOMapper::toEmployeeDTO).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeEntityGraph() throws JsonProcessingException {
+        return entityWriter.writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public byte[] serializeEntityView() throws JsonProcessingException {
+        return viewWriter.writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public byte[] serializeDTOs() throws JsonProcessingException {
+        return dtoWriter.writeValueAsBytes(dtos);
+    }
+}
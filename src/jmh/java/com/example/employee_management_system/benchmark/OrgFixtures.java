@@ -0,0 +1,62 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds in-memory org charts of a given size for the benchmarks.
+ */
+final class OrgFixtures {
+
+    static final int DEPARTMENTS = 10;
+    static final int PROJECTS = 20;
+    static final int PROJECTS_PER_EMPLOYEE = 3;
+
+    private OrgFixtures() {}
+
+    static List<Department> departments() {
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENTS; i++) {
+            Department department = new Department("Department " + i);
+            department.setId((long) i + 1);
+            department.setEmployees(new ArrayList<>());
+            departments.add(department);
+        }
+        return departments;
+    }
+
+    static List<Project> projects() {
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = new Project("Project " + i);
+            project.setId((long) i + 1);
+            project.setEmployees(new ArrayList<>());
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    // Employees wired to departments and projects in both directions, like loaded entities
+    static List<Employee> employees(int count) {
+        List<Department> departments = departments();
+        List<Project> projects = projects();
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Department department = departments.get(i % DEPARTMENTS);
+            List<Project> assigned = new ArrayList<>();
+            for (int p = 0; p < PROJECTS_PER_EMPLOYEE; p++) {
+                assigned.add(projects.get((i + p) % PROJECTS));
+            }
+            Employee employee = new Employee("Employee " + i, "Engineer", department, assigned);
+            employee.setId((long) i + 1);
+            department.getEmployees().add(employee);
+            assigned.forEach(project -> project.getEmployees().add(employee));
+            employees.add(employee);
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.DTO.DTOMapper;
+import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CPU per request of a page of employee DTOs in each negotiable encoding, with
+ * and without gzip, on the writing (server) and the reading (client) side.
+ * The wireBytes counter of {@link #encode} reports the payload size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadEncodingBenchmark {
+
+    @Param({"1000"})
+    public int employees;
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({"none", "gzip"})
+    public String compression;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<EmployeeDTO> dtos;
+    private byte[] encoded;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Wire {
+        // Size of the last payload, assigned rather than accumulated. JMH adds up the value of
+        // each measurement iteration, so the reported figure is bytes per request times iterations.
+        public long wireBytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same builder the converters in SecurityConfig start from
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        switch (format) {
+            case "smile" -> builder.factory(new SmileFactory());
+            case "cbor" -> builder.factory(new CBORFactory());
+            default -> { }
+        }
+        ObjectMapper objectMapper = builder.build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, EmployeeDTO.class));
+        reader = objectMapper.readerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, EmployeeDTO.class));
+        dtos = OrgFixtures.employees(employees).stream().map(DTOMapper::toEmployeeDTO).toList();
+        encoded = write();
+    }
+
+    @Benchmark
+    public byte[] encode(Wire wire) throws IOException {
+        byte[] payload = write();
+        wire.wireBytes = payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> decode() throws IOException {
+        try (InputStream in = compression.equals("none")
+                ? new ByteArrayInputStream(encoded)
+                : new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+            return reader.readValue(in);
+        }
+    }
+
+    private byte[] write() throws IOException {
+        if (compression.equals("none")) {
+            return writer.writeValueAsBytes(dtos);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            writer.writeValue(out, dtos);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.repository.ProjectRepository;
+import com.example.employee_management_system.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * The list handling of ProjectService.findAllById in isolation: the repository
+ * is a stub returning a ready list, so only the service-side copying is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProjectLookupBenchmark {
+
+    @Param({"3", "100", "10000"})
+    public int projects;
+
+    private ProjectService projectService;
+    private List<Long> projectIds;
+
+    @Setup
+    public void setUp() {
+        List<Project> result = new ArrayList<>();
+        for (int i = 0; i < projects; i++) {
+            Project project = new Project("Project " + i);
+            project.setId((long) i);
+            result.add(project);
+        }
+        ProjectRepository repository = (ProjectRepository) Proxy.newProxyInstance(
+                ProjectRepository.class.getClassLoader(),
+                new Class<?>[]{ProjectRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllById")) {
+                        return result;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        projectService = new ProjectService();
+        ReflectionTestUtils.setField(projectService, "projectRepository", repository);
+        projectIds = LongStream.range(0, projects).boxed().toList();
+    }
+
+    @Benchmark
+    public List<Project> findAllById() {
+        return projectService.findAllById(projectIds);
+    }
+}
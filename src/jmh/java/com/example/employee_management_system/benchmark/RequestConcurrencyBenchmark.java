@@ -0,0 +1,103 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.EmployeeManagementSystemApplication;
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.EmployeeBatchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * HTTP load against a running application: many more concurrent clients read
+ * employees than the connection pool has connections, with and without the
+ * connection limiter. Reports throughput and, through SampleTime, latency
+ * percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(256)
+public class RequestConcurrencyBenchmark {
+
+    static final int EMPLOYEES = 1_000;
+
+    @Param({"true", "false"})
+    public boolean limiter;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private List<Long> employeeIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] args = Stream.concat(Stream.of(ServiceEndToEndBenchmark.EMBEDDED_ARGS),
+                        Stream.of("--ems.datasource.limiter.enabled=" + limiter))
+                .toArray(String[]::new);
+        context = new SpringApplicationBuilder(EmployeeManagementSystemApplication.class).run(args);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        Department department = context.getBean(DepartmentService.class).save(new Department("Benchmark"));
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            EmployeeDTO employee = new EmployeeDTO();
+            employee.setName("Employee " + i);
+            employee.setPosition("Engineer");
+            employee.setDepartmentId(department.getId());
+            employee.setProjectIds(List.of());
+            employees.add(employee);
+        }
+        employeeIds = context.getBean(EmployeeBatchService.class).createAll(employees).getResults().stream()
+                .map(result -> result.getEmployee().getId())
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getEmployee() throws IOException, InterruptedException {
+        Long id = employeeIds.get(ThreadLocalRandom.current().nextInt(employeeIds.size()));
+        return send("/api/employees/" + id);
+    }
+
+    @Benchmark
+    public int listEmployees() throws IOException, InterruptedException {
+        return send("/api/employees?limit=100");
+    }
+
+    private int send(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.DTO.PageDTO;
+import com.example.employee_management_system.EmployeeManagementSystemApplication;
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.DirectoryQueryService;
+import com.example.employee_management_system.service.EmployeeBatchService;
+import com.example.employee_management_system.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service calls end to end (repositories, Hibernate, JDBC) against an embedded
+ * H2 database seeded with a few thousand employees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceEndToEndBenchmark {
+
+    static final int EMPLOYEES = 5_000;
+
+    // Passed as command-line arguments so they take precedence over application.properties
+    static final String[] EMBEDDED_ARGS = {
+            "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--server.port=0",
+            "--logging.level.root=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type=WARN",
+            "--logging.level.org.springframework=WARN",
+            "--logging.level.org.springframework.security=WARN",
+            "--logging.level.org.springframework.web=WARN",
+            "--logging.level.com.example.employee_management_system=WARN"
+    };
+
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+    private DirectoryQueryService directoryQueryService;
+    private List<Long> projectIds;
+    private Long employeeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EmployeeManagementSystemApplication.class)
+                .run(EMBEDDED_ARGS);
+        projectService = context.getBean(ProjectService.class);
+        directoryQueryService = context.getBean(DirectoryQueryService.class);
+
+        DepartmentService departmentService = context.getBean(DepartmentService.class);
+        List<Long> departmentIds = new ArrayList<>();
+        projectIds = new ArrayList<>();
+        for (Department department : OrgFixtures.departments()) {
+            department.setId(null);
+            departmentIds.add(departmentService.save(department).getId());
+        }
+        for (Project project : OrgFixtures.projects()) {
+            project.setId(null);
+            projectIds.add(projectService.save(project).getId());
+        }
+
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            EmployeeDTO employee = new EmployeeDTO();
+            employee.setName("Employee " + i);
+            employee.setPosition(i % 2 == 0 ? "Engineer" : "Analyst");
+            employee.setDepartmentId(departmentIds.get(i % departmentIds.size()));
+            employee.setProjectIds(List.of(projectIds.get(i % projectIds.size()),
+                    projectIds.get((i + 1) % projectIds.size())));
+            employees.add(employee);
+        }
+        employeeId = context.getBean(EmployeeBatchService.class).createAll(employees)
+                .getResults().get(0).getEmployee().getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PageDTO<EmployeeDTO> employeeProjectionPage() {
+        return directoryQueryService.findEmployeePage(null, 50, null, null, null);
+    }
+
+    @Benchmark
+    public EmployeeDTO employeeById() {
+        return directoryQueryService.findEmployee(employeeId);
+    }
+
+    @Benchmark
+    public List<Project> projectsById() {
+        return projectService.findAllById(projectIds.subList(0, 3));
+    }
+}
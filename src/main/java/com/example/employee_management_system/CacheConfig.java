@@ -0,0 +1,68 @@
+package com.example.employee_management_system;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Project;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * In-process Hibernate second-level cache for the small, rarely changing
+ * department and project tables. Regions are created here, size-bounded by the
+ * {@code ems.cache.*} properties, instead of relying on Caffeine defaults.
+ */
+@Configuration
+public class CacheConfig {
+
+    // Region names Hibernate uses for query caching when no region is given
+    static final String QUERY_RESULTS_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    static final String UPDATE_TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${ems.cache.department.max-size:1000}") long departmentMaxSize,
+            @Value("${ems.cache.project.max-size:1000}") long projectMaxSize,
+            @Value("${ems.cache.query.max-size:1000}") long queryMaxSize) {
+        // A manager of its own rather than the provider default, which is shared JVM-wide:
+        // closing one application context must not close the regions of another
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("ems-hibernate-" + UUID.randomUUID()), CacheConfig.class.getClassLoader());
+        createRegion(cacheManager, Department.class.getName(), OptionalLong.of(departmentMaxSize));
+        createRegion(cacheManager, Project.class.getName(), OptionalLong.of(projectMaxSize));
+        createRegion(cacheManager, QUERY_RESULTS_REGION, OptionalLong.of(queryMaxSize));
+        // Holds one timestamp per table; evicting it would break query cache invalidation
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, OptionalLong.empty());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Every region is configured above; a missing one means a mapping mistake
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, OptionalLong maximumSize) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        cacheManager.createCache(name, configuration);
+    }
+}
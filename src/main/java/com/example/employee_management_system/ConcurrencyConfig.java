@@ -0,0 +1,70 @@
+package com.example.employee_management_system;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Request and background-work threading.
+ *
+ * The data source is wrapped in a {@link ConnectionLimitingDataSource} sized to the
+ * Hikari pool, so blocked request threads queue for a connection in order.
+ * Scheduling is enabled for periodic maintenance such as headcount reconciliation.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ConcurrencyConfig {
+
+    static final String LIMITER_ENABLED = "ems.datasource.limiter.enabled";
+
+    // Static so the data source is wrapped before anything looks it up
+    @Bean
+    @ConditionalOnProperty(name = LIMITER_ENABLED, havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    Duration acquireTimeout = environment.getProperty("ems.datasource.limiter.acquire-timeout",
+                            Duration.class, Duration.ofMillis(hikari.getConnectionTimeout()));
+                    return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = LIMITER_ENABLED, havingValue = "true", matchIfMissing = true)
+    public MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            ConnectionLimitingDataSource limiter;
+            try {
+                if (!dataSource.isWrapperFor(ConnectionLimitingDataSource.class)) {
+                    return;
+                }
+                limiter = dataSource.unwrap(ConnectionLimitingDataSource.class);
+            } catch (SQLException e) {
+                return;
+            }
+            Gauge.builder("ems.datasource.limiter.available", limiter, ConnectionLimitingDataSource::getAvailablePermits)
+                    .description("Connection permits not currently held")
+                    .register(registry);
+            Gauge.builder("ems.datasource.limiter.waiting", limiter, ConnectionLimitingDataSource::getWaitingThreads)
+                    .description("Threads waiting for a connection permit")
+                    .register(registry);
+        };
+    }
+}
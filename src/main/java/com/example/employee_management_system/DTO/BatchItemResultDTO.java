@@ -0,0 +1,38 @@
+package com.example.employee_management_system.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResultDTO {
+    public enum Status { CREATED, FAILED }
+
+    // Position of the item in the request body
+    private int index;
+    private Status status;
+
+    // Created employee with its generated ID, only for CREATED items
+    private EmployeeDTO employee;
+
+    // Reason the item was rejected, only for FAILED items
+    private String error;
+
+    public static BatchItemResultDTO created(int index, EmployeeDTO employee) {
+        BatchItemResultDTO result = new BatchItemResultDTO();
+        result.index = index;
+        result.status = Status.CREATED;
+        result.employee = employee;
+        return result;
+    }
+
+    public static BatchItemResultDTO failed(int index, String error) {
+        BatchItemResultDTO result = new BatchItemResultDTO();
+        result.index = index;
+        result.status = Status.FAILED;
+        result.error = error;
+        return result;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.employee_management_system.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+public class BatchResultDTO {
+    private int created;
+    private int failed;
+
+    // One entry per request item, in request order
+    private List<BatchItemResultDTO> results;
+
+    public BatchResultDTO() {}
+
+    public BatchResultDTO(List<BatchItemResultDTO> results) {
+        this.results = results;
+        this.created = (int) results.stream()
+                .filter(result -> result.getStatus() == BatchItemResultDTO.Status.CREATED)
+                .count();
+        this.failed = results.size() - created;
+    }
+}
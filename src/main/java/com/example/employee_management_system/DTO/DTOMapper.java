@@ -0,0 +1,30 @@
+package com.example.employee_management_system.DTO;
+
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+
+/**
+ * Entity to DTO conversions shared by the controllers.
+ */
+public final class DTOMapper {
+
+    private DTOMapper() {}
+
+    public static EmployeeDTO toEmployeeDTO(Employee employee) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setId(employee.getId());
+        employeeDTO.setName(employee.getName());
+        employeeDTO.setPosition(employee.getPosition());
+        employeeDTO.setDepartmentId(employee.getDepartment().getId());
+        employeeDTO.setProjectIds(employee.getProjects().stream().map(Project::getId).toList());
+        employeeDTO.setVersion(employee.getVersion());
+        return employeeDTO;
+    }
+
+    // Project with its employees, as returned by the project update
+    public static ProjectDTO toProjectDTO(Project project) {
+        ProjectDTO projectDTO = new ProjectDTO(project.getId(), project.getName(), project.getVersion());
+        projectDTO.setEmployees(project.getEmployees().stream().map(DTOMapper::toEmployeeDTO).toList());
+        return projectDTO;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.employee_management_system.DTO;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,4 +10,21 @@ public class DepartmentDTO {
     private Long id;
     private String name;
 
+    // Entity version, the basis of the ETag used for If-Match on updates
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+
+    // No-argument constructor
+    public DepartmentDTO() {}
+
+    // Parameterized constructor, used by JPQL constructor expressions
+    public DepartmentDTO(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public DepartmentDTO(Long id, String name, Long version) {
+        this(id, name);
+        this.version = version;
+    }
 }
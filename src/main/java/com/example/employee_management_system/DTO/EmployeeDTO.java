@@ -1,5 +1,6 @@
 package com.example.employee_management_system.DTO;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -23,6 +24,10 @@ public class EmployeeDTO {
     @NotNull(message = "Project IDs must not be null")
     private List<@NotNull(message = "Project ID must not be null") Long> projectIds;
 
+    // Entity version, the basis of the ETag used for If-Match on updates; ignored on input
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+
 
 }
 
@@ -0,0 +1,24 @@
+package com.example.employee_management_system.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class EmployeeSearchHitDTO {
+    private Long id;
+    private String name;
+    private String position;
+
+    // Relevance of the match; higher is better, only comparable within one result list
+    private double score;
+
+    public EmployeeSearchHitDTO() {}
+
+    public EmployeeSearchHitDTO(Long id, String name, String position, double score) {
+        this.id = id;
+        this.name = name;
+        this.position = position;
+        this.score = score;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.employee_management_system.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HeadcountDTO {
+    // Department or project the employees are counted for
+    private Long id;
+    private String name;
+
+    // Only set when counts are broken down by position
+    private String position;
+
+    private long headcount;
+
+    public HeadcountDTO() {}
+
+    public HeadcountDTO(Long id, String name, Long headcount) {
+        this(id, name, null, headcount);
+    }
+
+    public HeadcountDTO(Long id, String name, String position, Long headcount) {
+        this.id = id;
+        this.name = name;
+        this.position = position;
+        this.headcount = headcount;
+    }
+}
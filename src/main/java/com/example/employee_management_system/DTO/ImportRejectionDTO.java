@@ -0,0 +1,19 @@
+package com.example.employee_management_system.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class ImportRejectionDTO {
+    // Record number in the CSV file, counting the header as record 1
+    private long line;
+    private String error;
+
+    public ImportRejectionDTO() {}
+
+    public ImportRejectionDTO(long line, String error) {
+        this.line = line;
+        this.error = error;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.employee_management_system.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+public class ImportResultDTO {
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+
+    private long elapsedMillis;
+    private double rowsPerSecond;
+
+    // The first rejected rows; rejections beyond the reporting limit are only counted
+    private List<ImportRejectionDTO> rejections = new ArrayList<>();
+    private boolean rejectionsTruncated;
+}
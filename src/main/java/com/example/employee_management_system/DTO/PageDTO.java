@@ -0,0 +1,22 @@
+package com.example.employee_management_system.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+public class PageDTO<T> {
+    private List<T> items;
+
+    // Opaque cursor for the next page, null when this is the last page
+    private String nextCursor;
+
+    public PageDTO() {}
+
+    public PageDTO(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+}
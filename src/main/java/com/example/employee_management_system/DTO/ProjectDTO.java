@@ -1,5 +1,6 @@
 package com.example.employee_management_system.DTO;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -14,6 +15,25 @@ public class ProjectDTO {
     @NotBlank(message = "Name must not be empty")
     private String name;
 
+    // Entity version, the basis of the ETag used for If-Match on updates
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+
     // Assuming employees are optional in the update request
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<EmployeeDTO> employees;
+
+    // No-argument constructor
+    public ProjectDTO() {}
+
+    // Parameterized constructor, used by JPQL constructor expressions
+    public ProjectDTO(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public ProjectDTO(Long id, String name, Long version) {
+        this(id, name);
+        this.version = version;
+    }
 }
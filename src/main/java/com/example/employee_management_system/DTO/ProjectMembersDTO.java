@@ -0,0 +1,25 @@
+package com.example.employee_management_system.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Set;
+
+@Setter
+@Getter
+public class ProjectMembersDTO {
+    // Employees to assign to the project; existing members are ignored
+    private Set<Long> add = Set.of();
+
+    // Employees to unassign from the project; non-members are ignored
+    private Set<Long> remove = Set.of();
+
+    // An explicit null in the request means the same as leaving the field out
+    public void setAdd(Set<Long> add) {
+        this.add = add == null ? Set.of() : add;
+    }
+
+    public void setRemove(Set<Long> remove) {
+        this.remove = remove == null ? Set.of() : remove;
+    }
+}
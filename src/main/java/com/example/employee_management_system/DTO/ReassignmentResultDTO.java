@@ -0,0 +1,22 @@
+package com.example.employee_management_system.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class ReassignmentResultDTO {
+    private Long fromDepartmentId;
+    private Long toDepartmentId;
+
+    // Employees moved from the first department to the second
+    private int moved;
+
+    public ReassignmentResultDTO() {}
+
+    public ReassignmentResultDTO(Long fromDepartmentId, Long toDepartmentId, int moved) {
+        this.fromDepartmentId = fromDepartmentId;
+        this.toDepartmentId = toDepartmentId;
+        this.moved = moved;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.employee_management_system.DTO;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class StaffingChangeDTO {
+    public enum Action {
+        @JsonProperty("add") ADD,
+        @JsonProperty("remove") REMOVE
+    }
+
+    private Long employeeId;
+    private Long projectId;
+    private Action action;
+
+    // No-argument constructor
+    public StaffingChangeDTO() {}
+
+    public StaffingChangeDTO(Long employeeId, Long projectId, Action action) {
+        this.employeeId = employeeId;
+        this.projectId = projectId;
+        this.action = action;
+    }
+}
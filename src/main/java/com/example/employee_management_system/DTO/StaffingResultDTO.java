@@ -0,0 +1,23 @@
+package com.example.employee_management_system.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class StaffingResultDTO {
+    // Join rows inserted and deleted; requested changes already in place are not counted
+    private int added;
+    private int removed;
+
+    // Employees whose set of projects changed
+    private int employeesChanged;
+
+    public StaffingResultDTO() {}
+
+    public StaffingResultDTO(int added, int removed, int employeesChanged) {
+        this.added = added;
+        this.removed = removed;
+        this.employeesChanged = employeesChanged;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.employee_management_system.DTO;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Setter
+@Getter
+public class SyncDTO {
+    // Set once every change has been returned: pass as "since" on the next sync;
+    // changes at or after it are returned again
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant watermark;
+
+    // Set instead of the watermark while more changes remain: pass as "cursor" for the next page
+    private String nextCursor;
+
+    // Created or updated since the requested watermark
+    private List<EmployeeDTO> employees;
+    private List<DepartmentDTO> departments;
+    private List<ProjectDTO> projects;
+
+    // Deleted since the requested watermark
+    private List<Long> deletedEmployeeIds;
+    private List<Long> deletedDepartmentIds;
+    private List<Long> deletedProjectIds;
+}
@@ -0,0 +1,30 @@
+package com.example.employee_management_system;
+
+import com.example.employee_management_system.service.IdempotencyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+/**
+ * Registers the Idempotency-Key handling for the POST endpoints clients retry.
+ * It runs after Spring Security, so keys can be scoped to the authenticated user.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyService idempotencyService,
+            @Value("${ems.idempotency.paths:/api/employees,/api/projects,/api/employees/{id}/projects}")
+            List<String> paths,
+            @Value("${ems.idempotency.max-request-size:1MB}") DataSize maxRequestSize) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyService, paths, Math.toIntExact(maxRequestSize.toBytes())));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
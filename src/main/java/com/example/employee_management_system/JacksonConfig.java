@@ -0,0 +1,21 @@
+package com.example.employee_management_system;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuning of the application ObjectMapper, which Spring Boot builds from every
+ * {@link Module} bean. Blackbird replaces reflective getter and setter calls
+ * with generated lambdas (LambdaMetafactory), cutting per-property overhead
+ * when serializing DTOs and entities.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
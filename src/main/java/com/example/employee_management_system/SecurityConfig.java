@@ -1,9 +1,14 @@
 package com.example.employee_management_system;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.core.userdetails.User;
@@ -54,8 +59,21 @@ public class SecurityConfig {
             }
         };
     }
+    // Shares the application ObjectMapper (see JacksonConfig), and with it the serializer caches
     @Bean
-    public MappingJackson2HttpMessageConverter jacksonMessageConverter() {
-        return new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+    public MappingJackson2HttpMessageConverter jacksonMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    // Binary encodings of the same JSON model, chosen through Accept (application/x-jackson-smile,
+    // application/cbor). Built from Boot's builder so they get the same modules and settings.
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
     }
 }
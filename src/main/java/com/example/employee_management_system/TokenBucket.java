@@ -0,0 +1,42 @@
+package com.example.employee_management_system;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allows {@code ratePerSecond} requests per second on average and bursts of up
+ * to {@code burst} requests. Tokens are refilled lazily from the elapsed time
+ * whenever one is taken, so idle buckets cost nothing.
+ */
+public class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(double ratePerSecond, double burst, long nanoTime) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be positive and burst at least 1");
+        }
+        this.capacity = burst;
+        this.tokensPerNano = ratePerSecond / NANOS_PER_SECOND;
+        this.tokens = burst;
+        this.refilledAt = nanoTime;
+    }
+
+    /**
+     * Takes a token if one is available and returns 0, otherwise returns the
+     * nanoseconds until the next token is.
+     */
+    public synchronized long tryTake(long nanoTime) {
+        tokens = Math.min(capacity, tokens + (nanoTime - refilledAt) * tokensPerNano);
+        refilledAt = nanoTime;
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.employee_management_system;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Registers rate limits and bulkheads for two groups of endpoints, set with
+ * {@code ems.traffic.<group>.*} properties: {@code heavy} (lists, exports, bulk
+ * writes) and {@code light} (everything else under /api). Each client is rate
+ * limited per route, and each group shares one bulkhead. The filter runs right
+ * after Spring Security, so rate limits apply per authenticated user, and before
+ * the Idempotency-Key handling, so rejected requests do not claim keys.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ems.traffic.enabled", havingValue = "true", matchIfMissing = true)
+public class TrafficControlConfig {
+
+    // Defaults of ems.traffic.<group>.paths, kept here only
+    static final String HEAVY_PATHS = "GET /api/employees,/api/employees/search,/api/employees/export,"
+            + "/api/employees/batch,/api/employees/import,/api/projects/staffing,/api/projects/{id}/members:bulk,"
+            + "/api/departments/{id}/reassign,/api/departments/stats,/api/projects/stats,/api/sync";
+    static final String LIGHT_PATHS = "/api/**";
+
+    @Bean
+    public FilterRegistrationBean<TrafficControlFilter> trafficControlFilter(Environment environment,
+                                                                             MeterRegistry registry) {
+        long maxClients = environment.getProperty("ems.traffic.max-clients", Long.class, 10_000L);
+        TrafficControlFilter filter = new TrafficControlFilter(List.of(
+                group(environment, registry, "heavy", HEAVY_PATHS, 10, 50, 4, 20, maxClients),
+                group(environment, registry, "light", LIGHT_PATHS, 50, 200, 50, 100, maxClients)));
+        FilterRegistrationBean<TrafficControlFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    private static TrafficControlFilter.Group group(Environment environment, MeterRegistry registry, String name,
+                                                    String paths, double rate, double burst, int maxConcurrent,
+                                                    int maxQueue, long maxClients) {
+        String prefix = "ems.traffic." + name + ".";
+        Bulkhead bulkhead = new Bulkhead(
+                environment.getProperty(prefix + "max-concurrent", Integer.class, maxConcurrent),
+                environment.getProperty(prefix + "max-queue", Integer.class, maxQueue),
+                environment.getProperty(prefix + "max-wait", Duration.class, Duration.ofSeconds(1)));
+        return new TrafficControlFilter.Group(name,
+                List.of(environment.getProperty(prefix + "paths", String[].class, paths.split(","))),
+                environment.getProperty(prefix + "rate", Double.class, rate),
+                environment.getProperty(prefix + "burst", Double.class, burst),
+                bulkhead, maxClients, registry);
+    }
+}
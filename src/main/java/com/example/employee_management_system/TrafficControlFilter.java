@@ -0,0 +1,225 @@
+package com.example.employee_management_system;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps one client, or one kind of request, from starving the others. Every
+ * request belongs to the first {@link Group} with a matching route. Each client
+ * (the authenticated user, else the remote address) has its own token bucket per
+ * route, and beyond its rate gets 429, so a client exporting in a loop can still
+ * search. The group as a whole runs
+ * behind a {@link Bulkhead}, and gets 503 when that is full, so a flood of
+ * heavy list and export requests cannot take all request threads and
+ * connections from the light lookups.
+ */
+public class TrafficControlFilter extends OncePerRequestFilter {
+
+    static final String METRIC = "ems.traffic.requests";
+
+    private final List<Group> groups;
+
+    public TrafficControlFilter(List<Group> groups) {
+        this.groups = groups;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        Group group = null;
+        Group.Route route = null;
+        for (Group candidate : groups) {
+            route = candidate.routeOf(request.getMethod(), path);
+            if (route != null) {
+                group = candidate;
+                break;
+            }
+        }
+        if (group == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = group.tryTake(route, clientOf(request));
+        if (waitNanos > 0) {
+            group.rateLimited.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, waitNanos,
+                    "Rate limit of " + group.name + " requests exceeded");
+            return;
+        }
+
+        boolean entered;
+        try {
+            entered = group.bulkhead.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            entered = false;
+        }
+        if (!entered) {
+            group.rejected.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, group.bulkhead.getMaxWait().toNanos(),
+                    "Too many " + group.name + " requests in progress");
+            return;
+        }
+
+        group.admitted.increment();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            // Streamed responses keep their slot until the async request completes
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ExitListener(group.bulkhead));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                group.bulkhead.exit();
+            }
+        }
+    }
+
+    // The remote address is the proxy's unless server.forward-headers-strategy is set
+    private static String clientOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : "address:" + request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterNanos, String message)
+            throws IOException {
+        long seconds = Math.max(1, (retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+
+    /**
+     * Requests sharing a bulkhead, and the rate limit each client gets on each of their
+     * routes. Routes are path patterns, optionally preceded by an HTTP method
+     * ({@code GET /api/employees}); a pattern such as {@code /api/**} is one route.
+     */
+    public static class Group {
+
+        private final String name;
+        private final List<Route> routes;
+        private final double ratePerSecond;
+        private final double burst;
+        private final Bulkhead bulkhead;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter admitted;
+        private final Counter rateLimited;
+        private final Counter rejected;
+
+        private record Route(String key, HttpMethod method, PathPattern pattern) {}
+
+        /**
+         * A {@code ratePerSecond} of 0 turns the limit off. Up to {@code maxClients} clients
+         * keep a bucket per route; buckets idle for longer than a full refill are dropped,
+         * as they would be full again anyway.
+         */
+        public Group(String name, List<String> routes, double ratePerSecond, double burst, Bulkhead bulkhead,
+                     long maxClients, MeterRegistry registry) {
+            this.name = name;
+            this.routes = routes.stream().map(Group::route).toList();
+            this.ratePerSecond = ratePerSecond;
+            this.burst = burst;
+            this.bulkhead = bulkhead;
+            this.buckets = ratePerSecond <= 0 ? null : Caffeine.newBuilder()
+                    .maximumSize(maxClients * this.routes.size())
+                    .expireAfterAccess(Duration.ofNanos((long) Math.ceil(burst / ratePerSecond * 1e9)))
+                    .build();
+            this.admitted = counter(registry, name, "admitted");
+            this.rateLimited = counter(registry, name, "rate_limited");
+            this.rejected = counter(registry, name, "rejected");
+            Gauge.builder("ems.traffic.bulkhead.active", bulkhead, Bulkhead::getActive)
+                    .tag("group", name)
+                    .description("Requests currently inside the bulkhead")
+                    .register(registry);
+            Gauge.builder("ems.traffic.bulkhead.queued", bulkhead, Bulkhead::getQueued)
+                    .tag("group", name)
+                    .description("Requests waiting to enter the bulkhead")
+                    .register(registry);
+        }
+
+        private Route routeOf(String method, PathContainer path) {
+            for (Route route : routes) {
+                if ((route.method() == null || route.method().matches(method)) && route.pattern().matches(path)) {
+                    return route;
+                }
+            }
+            return null;
+        }
+
+        private long tryTake(Route route, String client) {
+            if (buckets == null) {
+                return 0;
+            }
+            long now = System.nanoTime();
+            return buckets.get(route.key() + " " + client, key -> new TokenBucket(ratePerSecond, burst, now))
+                    .tryTake(now);
+        }
+
+        private static Route route(String route) {
+            String trimmed = route.trim();
+            String[] parts = trimmed.split("\\s+", 2);
+            return parts.length == 1
+                    ? new Route(trimmed, null, PathPatternParser.defaultInstance.parse(parts[0]))
+                    : new Route(trimmed, HttpMethod.valueOf(parts[0]), PathPatternParser.defaultInstance.parse(parts[1]));
+        }
+
+        private static Counter counter(MeterRegistry registry, String group, String outcome) {
+            return Counter.builder(METRIC)
+                    .tag("group", group)
+                    .tag("outcome", outcome)
+                    .description("Requests by traffic control group and whether they were let through")
+                    .register(registry);
+        }
+    }
+
+    private record ExitListener(Bulkhead bulkhead) implements AsyncListener {
+
+        // Called after onTimeout and onError as well
+        @Override
+        public void onComplete(AsyncEvent event) {
+            bulkhead.exit();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
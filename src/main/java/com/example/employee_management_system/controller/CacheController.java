@@ -0,0 +1,54 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.DTO.CacheRegionStatsDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "Cache", description = "Second-level cache statistics")
+public class CacheController {
+
+    private final Statistics statistics;
+
+    public CacheController(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Operation(summary = "Get cache statistics", description = "Hit, miss and put counts per second-level cache region.")
+    @ApiResponse(responseCode = "200", description = "Statistics of every cache region",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = CacheRegionStatsDTO.class))))
+    @GetMapping("/stats")
+    public List<CacheRegionStatsDTO> getCacheStatistics() {
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    private CacheRegionStatsDTO toDTO(String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        CacheRegionStatsDTO dto = new CacheRegionStatsDTO();
+        dto.setRegion(region);
+        dto.setHits(regionStatistics.getHitCount());
+        dto.setMisses(regionStatistics.getMissCount());
+        dto.setPuts(regionStatistics.getPutCount());
+        dto.setElementsInMemory(regionStatistics.getElementCountInMemory());
+        return dto;
+    }
+}
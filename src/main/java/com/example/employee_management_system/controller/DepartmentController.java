@@ -1,8 +1,16 @@
 package com.example.employee_management_system.controller;
 
 import com.example.employee_management_system.DTO.DepartmentDTO;
+import com.example.employee_management_system.DTO.HeadcountDTO;
+import com.example.employee_management_system.DTO.ReassignmentResultDTO;
 import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.EntityViews;
 import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.DirectoryQueryService;
+import com.example.employee_management_system.service.FieldSelection;
+import com.example.employee_management_system.service.ResourceType;
+import com.example.employee_management_system.service.ResourceVersionService;
+import com.fasterxml.jackson.annotation.JsonView;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,9 +19,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,33 +36,101 @@ public class DepartmentController {
     @Autowired
     private DepartmentService departmentService;
 
+    @Autowired
+    private DirectoryQueryService directoryQueryService;
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
     @Operation(summary = "Get all departments", description = "Retrieve a list of all departments.")
-    @ApiResponse(responseCode = "200", description = "Found all departments",
-            content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = Department.class)))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found all departments",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = DepartmentDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Departments unchanged since the ETag in If-None-Match",
+                    content = @Content)
+    })
     @GetMapping
-    public List<Department> getAllDepartments() {
-        return departmentService.findAll();
+    public ResponseEntity<List<?>> getAllDepartments(
+            @Parameter(description = "Comma-separated fields to return, any of id, name, version; "
+                    + "all of them when omitted")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, FieldSelection.DEPARTMENT_FIELDS);
+        String etag = resourceVersionService.etag(ResourceType.DEPARTMENT);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(selection == null
+                        ? directoryQueryService.findDepartments()
+                        : directoryQueryService.findDepartments(selection));
+    }
+
+    @Operation(summary = "Get department headcounts", description = "Number of employees per department, "
+            + "counted by the database. Departments without matching employees are listed with 0 unless "
+            + "the counts are broken down by position.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Headcounts, ordered by department ID",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = HeadcountDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Headcounts unchanged since the ETag in If-None-Match",
+                    content = @Content)
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<List<HeadcountDTO>> getDepartmentHeadcounts(
+            @Parameter(description = "Only count employees with exactly this position")
+            @RequestParam(required = false) String position,
+            @Parameter(description = "Only count employees assigned to this project")
+            @RequestParam(required = false) Long projectId,
+            @Parameter(description = "One row per department and position instead of per department")
+            @RequestParam(defaultValue = "false") boolean byPosition,
+            WebRequest webRequest) {
+        String etag = resourceVersionService.etag(ResourceType.DEPARTMENT, ResourceType.EMPLOYEE);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(directoryQueryService.findDepartmentHeadcounts(position, projectId, byPosition));
     }
 
     @Operation(summary = "Get department by ID", description = "Retrieve a department by its ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Department found",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = Department.class))),
+                            schema = @Schema(implementation = DepartmentDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Department unchanged since the ETag in If-None-Match",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "Department not found", content = @Content)
     })
     @GetMapping("/{id}")
-    public Department getDepartmentById(
+    public ResponseEntity<DepartmentDTO> getDepartmentById(
             @Parameter(description = "ID of the department to be retrieved", required = true)
-            @PathVariable Long id) {
-        return departmentService.findById(id);
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        // Only the version is read while the client's copy is current; a plain GET skips straight to the row
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(resourceVersionService.etag(ResourceType.DEPARTMENT, id,
+                        directoryQueryService.findDepartmentVersion(id)))) {
+            return null;
+        }
+        DepartmentDTO department = directoryQueryService.findDepartment(id);
+        String etag = resourceVersionService.etag(ResourceType.DEPARTMENT, id, department.getVersion());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(department);
     }
 
     @Operation(summary = "Create a new department", description = "Add a new department to the system.")
     @ApiResponse(responseCode = "201", description = "Department created",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = Department.class)))
+    @JsonView(EntityViews.Summary.class)
     @PostMapping
     public Department createDepartment(
             @Parameter(description = "Department object to be created", required = true,
@@ -62,43 +141,78 @@ public class DepartmentController {
         return departmentService.save(department);
     }
 
-    @Operation(summary = "Update a department", description = "Update an existing department.")
+    @Operation(summary = "Update a department", description = "Update an existing department. Send the ETag "
+            + "of GET /api/departments/{id} as If-Match to update only if nobody else has changed it since.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Department updated",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = Department.class))),
-            @ApiResponse(responseCode = "404", description = "Department not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Department not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Department changed concurrently during the update",
+                    content = @Content),
+            @ApiResponse(responseCode = "412", description = "Department no longer matches the If-Match ETag",
+                    content = @Content)
     })
+    @JsonView(EntityViews.Summary.class)
     @PutMapping("/{id}")
     public ResponseEntity<Department> updateDepartment(
             @Parameter(description = "ID of the department to be updated", required = true)
             @PathVariable Long id,
-            @RequestBody DepartmentDTO departmentDTO) {
+            @RequestBody DepartmentDTO departmentDTO,
+            @Parameter(description = "ETag the update is based on")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         Department existingDepartment = departmentService.findById(id);
         if (existingDepartment == null) {
             return ResponseEntity.notFound().build();
         }
+        resourceVersionService.checkIfMatch(ifMatch,
+                resourceVersionService.etag(ResourceType.DEPARTMENT, id, existingDepartment.getVersion()));
 
         existingDepartment.setName(departmentDTO.getName()); // Update only the name
         Department updatedDepartment = departmentService.save(existingDepartment);
 
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON)
+                .eTag(resourceVersionService.etag(ResourceType.DEPARTMENT, id, updatedDepartment.getVersion()))
                 .body(updatedDepartment);
     }
 
+    @Operation(summary = "Reassign the employees of a department", description = "Move every employee of the "
+            + "department to another department in one statement. Their projects are unchanged.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees moved",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ReassignmentResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Target is the department itself", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Department not found", content = @Content)
+    })
+    @PostMapping("/{id}/reassign")
+    public ReassignmentResultDTO reassignEmployees(
+            @Parameter(description = "ID of the department the employees leave", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "ID of the department the employees join", required = true)
+            @RequestParam Long to) {
+        return departmentService.reassignEmployees(id, to);
+    }
 
-    @Operation(summary = "Delete a department", description = "Delete a department by its ID.")
+    @Operation(summary = "Delete a department", description = "Delete a department by its ID. A department "
+            + "that still has employees can only be deleted with reassignTo.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Department deleted", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Department not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Department not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Department still has employees", content = @Content)
     })
     @DeleteMapping("/{id}")
     public void deleteDepartment(
             @Parameter(description = "ID of the department to be deleted", required = true)
-            @PathVariable Long id) {
-        departmentService.deleteById(id);
+            @PathVariable Long id,
+            @Parameter(description = "ID of the department its employees are moved to first")
+            @RequestParam(required = false) Long reassignTo) {
+        if (reassignTo == null) {
+            departmentService.deleteById(id);
+        } else {
+            departmentService.deleteById(id, reassignTo);
+        }
     }
 }
-
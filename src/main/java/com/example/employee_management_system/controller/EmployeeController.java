@@ -1,14 +1,31 @@
 package com.example.employee_management_system.controller;
+import com.example.employee_management_system.DTO.BatchResultDTO;
+import com.example.employee_management_system.DTO.DTOMapper;
 import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.DTO.EmployeeSearchHitDTO;
+import com.example.employee_management_system.DTO.ImportResultDTO;
+import com.example.employee_management_system.DTO.PageDTO;
+import com.example.employee_management_system.DTO.ProjectAssignmentDTO;
 
 import com.example.employee_management_system.ErrorResponse;
 import com.example.employee_management_system.exception.ResourceNotFoundException;
 import com.example.employee_management_system.model.Department;
 import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.EntityViews;
 import com.example.employee_management_system.model.Project;
 import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.DirectoryQueryService;
+import com.example.employee_management_system.service.EmployeeBatchService;
+import com.example.employee_management_system.service.EmployeeImportService;
+import com.example.employee_management_system.service.EmployeeSearchService;
 import com.example.employee_management_system.service.EmployeeService;
+import com.example.employee_management_system.service.FieldSelection;
+import com.example.employee_management_system.service.ProjectAssignmentService;
 import com.example.employee_management_system.service.ProjectService;
+import com.example.employee_management_system.service.ResourceType;
+import com.example.employee_management_system.service.ResourceVersionService;
+import com.example.employee_management_system.service.SyncService;
+import com.fasterxml.jackson.annotation.JsonView;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,11 +36,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -33,6 +59,8 @@ import java.util.stream.Collectors;
 @Tag(name = "Employees", description = "APIs for managing employees")
 public class EmployeeController {
 
+    static final String SYNC_WATERMARK_HEADER = "X-Sync-Watermark";
+
     @Autowired
     private EmployeeService employeeService;
 
@@ -42,29 +70,128 @@ public class EmployeeController {
     @Autowired
     private ProjectService projectService;
 
-    @Operation(summary = "Get all employees", description = "Retrieve a list of all employees.")
+    @Autowired
+    private DirectoryQueryService directoryQueryService;
+
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeSearchService employeeSearchService;
+
+    @Autowired
+    private ProjectAssignmentService projectAssignmentService;
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Operation(summary = "List employees", description = "Retrieve one page of employees ordered by ID. "
+            + "Pass the returned nextCursor as 'after' to fetch the following page.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved list",
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = Employee.class)))
+                            schema = @Schema(implementation = PageDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Employees unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
     })
     @GetMapping
-    public List<Employee> getAllEmployees() {
-        return employeeService.findAll();
+    public ResponseEntity<PageDTO<?>> getAllEmployees(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of employees in the page (1-" + EmployeeService.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "" + EmployeeService.DEFAULT_PAGE_SIZE) int limit,
+            @Parameter(description = "Only employees of this department")
+            @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "Only employees assigned to this project")
+            @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Only employees with exactly this position")
+            @RequestParam(required = false) String position,
+            @Parameter(description = "Comma-separated fields to return, any of "
+                    + "id, name, position, version, departmentId, projectIds; all of them when omitted")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, FieldSelection.EMPLOYEE_FIELDS);
+        String etag = resourceVersionService.etag(ResourceType.EMPLOYEE);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        PageDTO<?> page = selection == null
+                ? directoryQueryService.findEmployeePage(after, limit, departmentId, projectId, position)
+                : directoryQueryService.findEmployeePage(after, limit, departmentId, projectId, position, selection);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(page);
+    }
+
+    @Operation(summary = "Search employees", description = "Type-ahead search over employee name and position. "
+            + "Every word of the query must match the start of a word in the name or position; "
+            + "results are ranked with name and whole-word matches first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching employees, best first"),
+            @ApiResponse(responseCode = "400", description = "Empty query or invalid limit"),
+            @ApiResponse(responseCode = "503", description = "Search index is still being built after startup")
+    })
+    @GetMapping("/search")
+    public List<EmployeeSearchHitDTO> searchEmployees(
+            @Parameter(description = "Search text, e.g. 'jo eng'", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (1-" + EmployeeSearchService.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + EmployeeSearchService.DEFAULT_LIMIT) int limit) {
+        return employeeSearchService.search(q, limit);
+    }
+
+    @Operation(summary = "Export all employees", description = "Stream every employee as newline-delimited "
+            + "JSON (one employee object per line), ordered by ID. Intended for bulk consumers; "
+            + "the response is written while rows are read, so it is not buffered in memory. "
+            + "The X-Sync-Watermark header is the watermark to pass to GET /api/sync afterwards.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees streamed",
+                    content = @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = EmployeeDTO.class)))
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        // Written on an async thread; the read-only transaction is opened inside the service call
+        StreamingResponseBody body = directoryQueryService::exportEmployees;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(SYNC_WATERMARK_HEADER, String.valueOf(syncService.currentWatermark()))
+                .cacheControl(CacheControl.noStore())
+                .body(body);
     }
 
     @Operation(summary = "Get employee by ID", description = "Retrieve an employee by their ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved employee",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = Employee.class))),
+                            schema = @Schema(implementation = EmployeeDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Employee unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Employee not found")
     })
     @GetMapping("/{id}")
-    public Employee getEmployeeById(
+    public ResponseEntity<EmployeeDTO> getEmployeeById(
             @Parameter(description = "ID of employee to be retrieved", required = true)
-            @PathVariable Long id) {
-        return employeeService.findById(id);
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        // Only the version is read while the client's copy is current; a plain GET skips straight to the row
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(resourceVersionService.etag(ResourceType.EMPLOYEE, id,
+                        directoryQueryService.findEmployeeVersion(id)))) {
+            return null;
+        }
+        EmployeeDTO employee = directoryQueryService.findEmployee(id);
+        String etag = resourceVersionService.etag(ResourceType.EMPLOYEE, id, employee.getVersion());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(employee);
     }
 
     @Operation(summary = "Create a new employee", description = "Add a new employee to the system.")
@@ -91,31 +218,23 @@ public class EmployeeController {
                         .body(new ErrorResponse("Department not found"));
             }
 
-            // Find projects by IDs
-            List<Project> projects = projectService.findAllById(employeeDTO.getProjectIds());
-            if (projects.isEmpty() && !employeeDTO.getProjectIds().isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(new ErrorResponse("One or more projects not found"));
-            }
-
-            // Create and save new employee
+            // Create and save new employee; unknown projects are rejected with ResourceNotFoundException
             Employee employee = new Employee();
             employee.setName(employeeDTO.getName());
             employee.setPosition(employeeDTO.getPosition());
             employee.setDepartment(department);
-            employee.setProjects(projects);
 
-            Employee newEmployee = employeeService.save(employee);
+            Employee newEmployee = employeeService.save(employee, employeeDTO.getProjectIds());
 
             // Convert to DTO and return
-            EmployeeDTO newEmployeeDTO = new EmployeeDTO();
-            newEmployeeDTO.setId(newEmployee.getId());
-            newEmployeeDTO.setName(newEmployee.getName());
-            newEmployeeDTO.setPosition(newEmployee.getPosition());
-            newEmployeeDTO.setDepartmentId(newEmployee.getDepartment().getId());
-            newEmployeeDTO.setProjectIds(newEmployee.getProjects().stream().map(Project::getId).toList());
-
-            return ResponseEntity.status(HttpStatus.CREATED).body(newEmployeeDTO);
+            EmployeeDTO newEmployeeDTO = DTOMapper.toEmployeeDTO(newEmployee);
+
+            // Same ETag as a GET of the new employee, so a client can go straight to If-Match
+            return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest()
+                            .path("/{id}").buildAndExpand(newEmployee.getId()).toUri())
+                    .eTag(resourceVersionService.etag(ResourceType.EMPLOYEE, newEmployee.getId(),
+                            newEmployeeDTO.getVersion()))
+                    .body(newEmployeeDTO);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(new ErrorResponse("Invalid argument: " + e.getMessage()));
@@ -132,22 +251,74 @@ public class EmployeeController {
 
 
 
-    @Operation(summary = "Update an employee", description = "Update an existing employee.")
+    @Operation(summary = "Create employees in bulk", description = "Add up to "
+            + EmployeeBatchService.MAX_BATCH_SIZE + " employees in one request. Each item is validated "
+            + "independently; the response reports the outcome of every item in request order.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All employees created",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchResultDTO.class))),
+            @ApiResponse(responseCode = "207", description = "Some employees created, some rejected",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "No employee could be created")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResultDTO> createEmployees(
+            @Parameter(description = "Employees to be created", required = true)
+            @RequestBody List<EmployeeDTO> employeeDTOs) {
+        BatchResultDTO result = employeeBatchService.createAll(employeeDTOs);
+
+        HttpStatus status = HttpStatus.MULTI_STATUS;
+        if (result.getFailed() == 0) {
+            status = HttpStatus.CREATED;
+        } else if (result.getCreated() == 0) {
+            status = HttpStatus.BAD_REQUEST;
+        }
+        return ResponseEntity.status(status).body(result);
+    }
+
+    @Operation(summary = "Import employees from CSV", description = "Create employees from an uploaded CSV file "
+            + "with the header name,position,department,projects. Department and projects are given by name; "
+            + "several projects are separated by ';'. Rows are imported in committed chunks and invalid rows "
+            + "are skipped and reported.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "File processed; see the counts for the outcome",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ImportResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Missing columns or malformed CSV")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ImportResultDTO importEmployees(
+            @Parameter(description = "CSV file to be imported", required = true)
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return employeeImportService.importCsv(input);
+        }
+    }
+
+    @Operation(summary = "Update an employee", description = "Update an existing employee. Send the ETag "
+            + "of GET /api/employees/{id} as If-Match to update only if nobody else has changed it since.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee updated",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = Employee.class))),
-            @ApiResponse(responseCode = "404", description = "Employee not found")
+            @ApiResponse(responseCode = "404", description = "Employee not found"),
+            @ApiResponse(responseCode = "409", description = "Employee changed concurrently during the update"),
+            @ApiResponse(responseCode = "412", description = "Employee no longer matches the If-Match ETag")
     })
+    @JsonView(EntityViews.WithAssociations.class)
     @PutMapping("/{id}")
 
     public ResponseEntity<Employee> updateEmployee(
             @PathVariable Long id,
-            @Valid @RequestBody Employee employee) {
+            @Valid @RequestBody Employee employee,
+            @Parameter(description = "ETag the update is based on")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        // Throws ResourceNotFoundException (404) for an unknown ID
         Employee existingEmployee = employeeService.findById(id);
-        if (existingEmployee == null) {
-            throw new ResourceNotFoundException("Employee not found with id: " + id);
-        }
+        resourceVersionService.checkIfMatch(ifMatch,
+                resourceVersionService.etag(ResourceType.EMPLOYEE, id, existingEmployee.getVersion()));
 
         // Update the existing employee with the new data
         existingEmployee.setName(employee.getName());
@@ -163,16 +334,16 @@ public class EmployeeController {
             }
         }
 
-        // Update the projects if they exist
+        // Update the projects if any are given; only the join rows that change are written
+        List<Long> projectIds = null;
         if (employee.getProjects() != null && !employee.getProjects().isEmpty()) {
-            List<Project> projects = projectService.findAllById(employee.getProjects().stream()
-                    .map(Project::getId)
-                    .toList());
-            existingEmployee.setProjects(projects);
+            projectIds = employee.getProjects().stream().map(Project::getId).toList();
         }
 
-        Employee updatedEmployee = employeeService.save(existingEmployee);
-        return ResponseEntity.ok(updatedEmployee);
+        Employee updatedEmployee = employeeService.save(existingEmployee, projectIds);
+        return ResponseEntity.ok()
+                .eTag(resourceVersionService.etag(ResourceType.EMPLOYEE, id, updatedEmployee.getVersion()))
+                .body(updatedEmployee);
     }
 
 
@@ -197,6 +368,7 @@ public class EmployeeController {
                             schema = @Schema(implementation = Employee.class))),
             @ApiResponse(responseCode = "404", description = "Employee or projects not found")
     })
+    @JsonView(EntityViews.WithAssociations.class)
     @PostMapping("/{employeeId}/projects")
     public ResponseEntity<Employee> assignProjectsToEmployee(
             @Parameter(description = "ID of employee to be assigned projects", required = true)
@@ -204,13 +376,6 @@ public class EmployeeController {
             @Parameter(description = "List of project IDs to be assigned", required = true)
             @RequestBody List<Long> projectIds) {
 
-        // Retrieve the employee by ID
-        Employee employee = employeeService.findById(employeeId);
-        if (employee == null) {
-            // If employee is not found, return 404
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
-        }
-
         // Retrieve the projects by their IDs
         List<Project> projects = projectService.findAllById(projectIds);
         if (projects == null || projects.isEmpty()) {
@@ -218,15 +383,38 @@ public class EmployeeController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
 
-        // Assign the projects to the employee
-        employee.setProjects(projects);
+        // Replace the assignment through the join table, touching only the rows that change
+        // (404 if the employee does not exist)
+        projectAssignmentService.replaceProjects(employeeId, projects.stream().map(Project::getId).toList());
 
-        // Save the updated employee
-        Employee updatedEmployee = employeeService.save(employee);
+        // Loaded only now, so the request's persistence context cannot hold the old assignment
+        Employee updatedEmployee = employeeService.findById(employeeId);
 
         // Return the updated employee with a 200 OK status
         return ResponseEntity.ok(updatedEmployee);
     }
 
+    @Operation(summary = "Change the projects of an employee", description = "Assign the projects in 'add' and "
+            + "unassign the projects in 'remove', leaving all other assignments as they are. Projects already "
+            + "assigned (or not assigned) are ignored, so repeating a request changes nothing.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Projects changed; the updated employee is returned",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EmployeeDTO.class))),
+            @ApiResponse(responseCode = "400", description = "A project is both added and removed"),
+            @ApiResponse(responseCode = "404", description = "Employee or a project to add not found")
+    })
+    @PatchMapping("/{employeeId}/projects")
+    public ResponseEntity<EmployeeDTO> changeEmployeeProjects(
+            @Parameter(description = "ID of the employee", required = true)
+            @PathVariable Long employeeId,
+            @RequestBody ProjectAssignmentDTO assignment) {
+        projectAssignmentService.changeProjects(employeeId, assignment.getAdd(), assignment.getRemove());
+        EmployeeDTO employee = directoryQueryService.findEmployee(employeeId);
+        return ResponseEntity.ok()
+                .eTag(resourceVersionService.etag(ResourceType.EMPLOYEE, employeeId, employee.getVersion()))
+                .body(employee);
+    }
+
 }
 
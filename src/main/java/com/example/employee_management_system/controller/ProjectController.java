@@ -1,10 +1,21 @@
 package com.example.employee_management_system.controller;
 
 
-import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.DTO.DTOMapper;
+import com.example.employee_management_system.DTO.HeadcountDTO;
 import com.example.employee_management_system.DTO.ProjectDTO;
+import com.example.employee_management_system.DTO.ProjectMembersDTO;
+import com.example.employee_management_system.DTO.StaffingChangeDTO;
+import com.example.employee_management_system.DTO.StaffingResultDTO;
+import com.example.employee_management_system.model.EntityViews;
 import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.service.DirectoryQueryService;
+import com.example.employee_management_system.service.FieldSelection;
+import com.example.employee_management_system.service.ProjectAssignmentService;
 import com.example.employee_management_system.service.ProjectService;
+import com.example.employee_management_system.service.ResourceType;
+import com.example.employee_management_system.service.ResourceVersionService;
+import com.fasterxml.jackson.annotation.JsonView;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,13 +26,15 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,35 +50,106 @@ public class ProjectController {
     @Autowired
     private ProjectService projectService;
 
+    @Autowired
+    private DirectoryQueryService directoryQueryService;
+
+    @Autowired
+    private ProjectAssignmentService projectAssignmentService;
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
     @Operation(summary = "Get all projects", description = "Retrieve a list of all projects.")
-    @ApiResponse(responseCode = "200", description = "Found all projects",
-            content = @Content(mediaType = "application/json",
-                    schema = @Schema(implementation = Project.class)))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found all projects",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ProjectDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Projects unchanged since the ETag in If-None-Match",
+                    content = @Content)
+    })
     @GetMapping
-    public List<Project> getAllProjects() {
+    public ResponseEntity<List<?>> getAllProjects(
+            @Parameter(description = "Comma-separated fields to return, any of id, name, version; "
+                    + "all of them when omitted")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.parse(fields, FieldSelection.PROJECT_FIELDS);
+        String etag = resourceVersionService.etag(ResourceType.PROJECT);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         logger.info("Fetching all projects");
-        return projectService.findAll();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(selection == null
+                        ? directoryQueryService.findProjects()
+                        : directoryQueryService.findProjects(selection));
+    }
+
+    @Operation(summary = "Get project headcounts", description = "Number of employees assigned per project, "
+            + "counted by the database. Projects without matching employees are listed with 0 unless "
+            + "the counts are broken down by position.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Headcounts, ordered by project ID",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = HeadcountDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Headcounts unchanged since the ETag in If-None-Match",
+                    content = @Content)
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<List<HeadcountDTO>> getProjectHeadcounts(
+            @Parameter(description = "Only count employees with exactly this position")
+            @RequestParam(required = false) String position,
+            @Parameter(description = "Only count employees of this department")
+            @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "One row per project and position instead of per project")
+            @RequestParam(defaultValue = "false") boolean byPosition,
+            WebRequest webRequest) {
+        String etag = resourceVersionService.etag(ResourceType.PROJECT, ResourceType.EMPLOYEE);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(directoryQueryService.findProjectHeadcounts(position, departmentId, byPosition));
     }
 
     @Operation(summary = "Get project by ID", description = "Retrieve a project by its ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Project found",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = Project.class))),
+                            schema = @Schema(implementation = ProjectDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Project unchanged since the ETag in If-None-Match",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "Project not found", content = @Content)
     })
     @GetMapping("/{id}")
-    public Project getProjectById(
+    public ResponseEntity<ProjectDTO> getProjectById(
             @Parameter(description = "ID of the project to be retrieved", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        // Only the version is read while the client's copy is current; a plain GET skips straight to the row
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(resourceVersionService.etag(ResourceType.PROJECT, id,
+                        directoryQueryService.findProjectVersion(id)))) {
+            return null;
+        }
+        ProjectDTO project = directoryQueryService.findProject(id);
+        String etag = resourceVersionService.etag(ResourceType.PROJECT, id, project.getVersion());
         logger.info("Fetching project with ID: {}", id);
-        return projectService.findById(id);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(project);
     }
 
     @Operation(summary = "Create a new project", description = "Add a new project to the system.")
     @ApiResponse(responseCode = "201", description = "Project created",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = Project.class)))
+    @JsonView(EntityViews.Summary.class)
     @PostMapping
     public Project createProject(
             @Parameter(description = "Project object to be created", required = true,
@@ -81,48 +165,43 @@ public class ProjectController {
     }
 
 
-    @Operation(summary = "Update a project", description = "Update an existing project.")
+    @Operation(summary = "Update a project", description = "Update an existing project. Send the ETag "
+            + "of GET /api/projects/{id} as If-Match to update only if nobody else has changed it since.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Project updated",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = Project.class))),
-            @ApiResponse(responseCode = "404", description = "Project not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Project not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Project changed concurrently during the update",
+                    content = @Content),
+            @ApiResponse(responseCode = "412", description = "Project no longer matches the If-Match ETag",
+                    content = @Content)
     })
     @PutMapping("/{id}")
     public ResponseEntity<ProjectDTO> updateProject(
             @PathVariable Long id,
-            @RequestBody @Valid ProjectDTO projectDTO) {
+            @RequestBody @Valid ProjectDTO projectDTO,
+            @Parameter(description = "ETag the update is based on")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         // Find existing project
         Project existingProject = projectService.findById(id);
         if (existingProject == null) {
             return ResponseEntity.notFound().build();
         }
+        resourceVersionService.checkIfMatch(ifMatch,
+                resourceVersionService.etag(ResourceType.PROJECT, id, existingProject.getVersion()));
 
         // Update only the name from the request body
         existingProject.setName(projectDTO.getName());
         Project updatedProject = projectService.save(existingProject);
 
         // Convert updatedProject to ProjectDTO before returning
-        ProjectDTO responseDTO = new ProjectDTO();
-        responseDTO.setId(updatedProject.getId());
-        responseDTO.setName(updatedProject.getName());
-        responseDTO.setEmployees(updatedProject.getEmployees().stream()
-                .map(employee -> {
-                    EmployeeDTO employeeDTO = new EmployeeDTO();
-                    employeeDTO.setId(employee.getId());
-                    employeeDTO.setName(employee.getName());
-                    employeeDTO.setPosition(employee.getPosition());
-                    employeeDTO.setDepartmentId(employee.getDepartment().getId());
-                    employeeDTO.setProjectIds(employee.getProjects().stream()
-                            .map(Project::getId)
-                            .collect(Collectors.toList()));
-                    return employeeDTO;
-                })
-                .collect(Collectors.toList()));
+        ProjectDTO responseDTO = DTOMapper.toProjectDTO(updatedProject);
 
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON)
+                .eTag(resourceVersionService.etag(ResourceType.PROJECT, id, updatedProject.getVersion()))
                 .body(responseDTO);
     }
 
@@ -140,4 +219,41 @@ public class ProjectController {
         logger.info("Deleting project with ID: {}", id);
         projectService.deleteById(id);
     }
+
+    @Operation(summary = "Change the members of a project", description = "Add the employees in 'add' to the "
+            + "project and take the employees in 'remove' off it, in one transaction. Employees already (or not) "
+            + "on the project are ignored.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Members changed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = StaffingResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "An employee is both added and removed", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Project or an employee not found", content = @Content)
+    })
+    @PostMapping("/{id}/members:bulk")
+    public StaffingResultDTO changeProjectMembers(
+            @Parameter(description = "ID of the project", required = true)
+            @PathVariable Long id,
+            @RequestBody ProjectMembersDTO members) {
+        logger.info("Changing members of project {}", id);
+        return projectAssignmentService.changeMembers(id, members.getAdd(), members.getRemove());
+    }
+
+    @Operation(summary = "Change project staffing in bulk", description = "Apply up to "
+            + ProjectAssignmentService.MAX_STAFFING_CHANGES + " (employee, project, add/remove) changes in one "
+            + "transaction. Either all changes are applied or, if any ID is unknown, none.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Staffing changed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = StaffingResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Incomplete or contradictory changes, or too many",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "An employee or a project to add not found",
+                    content = @Content)
+    })
+    @PostMapping("/staffing")
+    public StaffingResultDTO changeStaffing(@RequestBody List<StaffingChangeDTO> changes) {
+        logger.info("Applying {} staffing changes", changes.size());
+        return projectAssignmentService.applyStaffing(changes);
+    }
 }
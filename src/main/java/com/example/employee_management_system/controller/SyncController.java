@@ -0,0 +1,61 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.DTO.SyncDTO;
+import com.example.employee_management_system.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/sync")
+@Tag(name = "Sync", description = "Delta sync for mirrors of employee, department and project data")
+public class SyncController {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Operation(summary = "Get changes since a watermark", description = "Employees, departments and projects "
+            + "created or updated at or after the watermark, plus the IDs of those deleted since. Start from the "
+            + "X-Sync-Watermark header of GET /api/employees/export. At most 'limit' changes are returned at once: "
+            + "while more remain, the response carries a nextCursor to pass as 'cursor' instead of a watermark. "
+            + "Pass the final watermark as 'since' on the next sync. Records near the watermark can be returned "
+            + "twice, so apply them idempotently.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes since the watermark",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SyncDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Neither or both of since and cursor given, or "
+                    + "invalid cursor or limit", content = @Content),
+            @ApiResponse(responseCode = "410", description = "Watermark older than the tombstone retention; "
+                    + "reload everything and continue from the new watermark", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<SyncDTO> getChanges(
+            @Parameter(description = "Watermark from the previous sync, as an ISO-8601 instant")
+            @RequestParam(required = false) Instant since,
+            @Parameter(description = "nextCursor from the previous page of this sync, instead of since")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of changes in the response (1-" + SyncService.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + SyncService.DEFAULT_LIMIT) int limit) {
+        if (since != null && cursor != null) {
+            throw new IllegalArgumentException("Pass either since or cursor, not both");
+        }
+        SyncDTO sync = cursor != null ? syncService.changesAfter(cursor, limit) : syncService.changesSince(since, limit);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(sync);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.employee_management_system.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
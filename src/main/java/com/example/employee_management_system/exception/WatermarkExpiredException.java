@@ -0,0 +1,7 @@
+package com.example.employee_management_system.exception;
+
+public class WatermarkExpiredException extends RuntimeException {
+    public WatermarkExpiredException(String message) {
+        super(message);
+    }
+}
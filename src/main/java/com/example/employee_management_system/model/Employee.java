@@ -1,21 +1,33 @@
 package com.example.employee_management_system.model;
 
-import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.util.List;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "employee")
+@JsonView(EntityViews.Summary.class)
+@Table(name = "employee", indexes = @Index(name = "idx_employee_updated_at", columnList = "updated_at"))
 public class Employee {
+    // Table the IDs are allocated from, shared with the JDBC batch inserts (see EmployeeIdService)
+    public static final String ID_TABLE = "id_generator";
+    public static final String ID_KEY = "employee";
+    public static final int ID_BLOCK_SIZE = 50;
+
+    // Allocated in blocks rather than by AUTO_INCREMENT, so Hibernate can batch the inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "employee_id")
+    @TableGenerator(name = "employee_id", table = ID_TABLE, pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = ID_KEY, allocationSize = ID_BLOCK_SIZE)
     private Long id;
 
     @NotBlank(message = "Name is mandatory")
@@ -24,10 +36,20 @@ public class Employee {
     @NotBlank(message = "Position is mandatory")
     private String position;
 
+    // Incremented on every update; existing rows start at 0
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
+    // Set on insert and update; read by the delta sync (null for rows not written since the column was added)
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     @ManyToOne
     @JoinColumn(name = "department_id", nullable = false)
     @NotNull(message = "Department is mandatory")
-    @JsonManagedReference  // Manages serialization of department object
+    @JsonView(EntityViews.WithAssociations.class)
     private Department department;
 
     @ManyToMany
@@ -36,7 +58,7 @@ public class Employee {
             joinColumns = @JoinColumn(name = "employee_id"),
             inverseJoinColumns = @JoinColumn(name = "project_id")
     )
-    @JsonManagedReference  // Manages serialization of projects list
+    @JsonView(EntityViews.WithAssociations.class)
     private List<Project> projects;
 
     // No-argument constructor
@@ -58,14 +80,14 @@ public class Employee {
         this.projects = projects;
     }
 
+    // Associations are only referenced by ID: printing them would load lazy projects
     @Override
     public String toString() {
         return "Employee{" +
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", position='" + position + '\'' +
-                ", department=" + department +
-                ", projects=" + projects +
+                ", departmentId=" + (department == null ? null : department.getId()) +
                 '}';
     }
 }
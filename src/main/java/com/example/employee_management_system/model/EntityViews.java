@@ -0,0 +1,16 @@
+package com.example.employee_management_system.model;
+
+/**
+ * Jackson views selecting what the write endpoints serialize of an entity.
+ * Inverse collections are never serialized, so no view loads them lazily.
+ */
+public final class EntityViews {
+
+    private EntityViews() {}
+
+    // Columns of the entity itself
+    public interface Summary {}
+
+    // Summary plus the department and projects of an employee
+    public interface WithAssociations extends Summary {}
+}
@@ -0,0 +1,43 @@
+package com.example.employee_management_system.model;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * Persisted employee count of one department or project. Maintained
+ * incrementally by HeadcountService, not edited through JPA.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "headcount")
+@IdClass(Headcount.Key.class)
+public class Headcount {
+
+    public enum Scope { DEPARTMENT, PROJECT }
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private Scope scope;
+
+    // ID of the department or project
+    @Id
+    @Column(name = "ref_id")
+    private Long refId;
+
+    @Column(nullable = false)
+    private long headcount;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Scope scope;
+        private Long refId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.employee_management_system.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Outcome of a POST sent with an Idempotency-Key, replayed when the key is
+ * reused. Written and read by IdempotencyService through JDBC; mapped here so
+ * the table is part of the schema.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "idempotency_record",
+        indexes = @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at"))
+public class IdempotencyRecord {
+
+    public static final int MAX_BODY_LENGTH = 1024 * 1024;
+
+    // SHA-256 of the client and the key it sent
+    @Id
+    @Column(name = "record_key", length = 64)
+    private String recordKey;
+
+    // SHA-256 of method, path and body, to detect a key reused for a different request
+    @Column(length = 64, nullable = false)
+    private String fingerprint;
+
+    // Null while the first request with the key is still executing
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    // Replayed response headers, one "name: value" per line
+    @Column(name = "response_headers", length = 4096)
+    private String responseHeaders;
+
+    @Column(name = "response_body", length = MAX_BODY_LENGTH)
+    private byte[] responseBody;
+
+    // Epoch milliseconds
+    @Column(name = "created_at", nullable = false)
+    private long createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+}
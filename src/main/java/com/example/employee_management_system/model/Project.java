@@ -1,16 +1,25 @@
 package com.example.employee_management_system.model;
 
-import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
 import jakarta.validation.constraints.NotBlank;
 
+import java.time.Instant;
 import java.util.List;
 @Getter
 @Setter
 @Entity
-@Table(name = "project")
+@JsonView(EntityViews.Summary.class)
+@Table(name = "project", indexes = @Index(name = "idx_project_updated_at", columnList = "updated_at"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)  // Reference data, served from the second-level cache
 public class Project {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -19,8 +28,18 @@ public class Project {
     @NotBlank(message = "Name is mandatory")
     private String name;
 
+    // Incremented on every update; existing rows start at 0
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
+    // Set on insert and update; read by the delta sync (null for rows not written since the column was added)
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     @ManyToMany(mappedBy = "projects")
-    @JsonBackReference  // Avoids infinite recursion
+    @JsonIgnore  // Inverse side: never serialized, so never loaded for a response
     private List<Employee> employees;
 
     // No-argument constructor
@@ -0,0 +1,26 @@
+package com.example.employee_management_system.model;
+
+import com.example.employee_management_system.service.ResourceType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Change counter of one resource table, the source of its collection ETags.
+ * Written and read by ResourceVersionService through JDBC; mapped here so the
+ * table is part of the schema.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "resource_version")
+public class ResourceVersion {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource_type", length = 16)
+    private ResourceType resourceType;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -0,0 +1,40 @@
+package com.example.employee_management_system.model;
+
+import com.example.employee_management_system.service.ResourceType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Record of a deleted employee, department or project, kept so that delta sync
+ * clients learn about deletions. Purged after the tombstone retention period.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "tombstone", indexes = @Index(name = "idx_tombstone_deleted_at", columnList = "deleted_at"))
+public class Tombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource_type", length = 16, nullable = false)
+    private ResourceType resourceType;
+
+    @Column(name = "resource_id", nullable = false)
+    private Long resourceId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    public Tombstone() {}
+
+    public Tombstone(ResourceType resourceType, Long resourceId, Instant deletedAt) {
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.deletedAt = deletedAt;
+    }
+}
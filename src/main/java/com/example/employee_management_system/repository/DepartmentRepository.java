@@ -1,9 +1,84 @@
 package com.example.employee_management_system.repository;
 
+import com.example.employee_management_system.DTO.DepartmentDTO;
+import com.example.employee_management_system.DTO.HeadcountDTO;
 import com.example.employee_management_system.model.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true")
+    })
+    @Query("SELECT new com.example.employee_management_system.DTO.DepartmentDTO(d.id, d.name, d.version)"
+            + " FROM Department d ORDER BY d.id")
+    List<DepartmentDTO> findAllDTOs();
+
+    // Only the version, to answer If-None-Match without reading the rest of the row
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT d.version FROM Department d WHERE d.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true")
+    })
+    @Query("SELECT new com.example.employee_management_system.DTO.DepartmentDTO(d.id, d.name, d.version)"
+            + " FROM Department d WHERE d.id = :id")
+    Optional<DepartmentDTO> findDTOById(@Param("id") Long id);
+
+    @Query("SELECT d.id FROM Department d WHERE d.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Employees per department, including departments without any. Filters (null = not
+    // applied) sit in the join condition so that departments with no match still count 0.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT new com.example.employee_management_system.DTO.HeadcountDTO(d.id, d.name, COUNT(e.id))"
+            + " FROM Department d LEFT JOIN d.employees e"
+            + " ON (:position IS NULL OR e.position = :position)"
+            + " AND (:projectId IS NULL OR EXISTS (SELECT 1 FROM e.projects fp WHERE fp.id = :projectId))"
+            + " GROUP BY d.id, d.name ORDER BY d.id")
+    List<HeadcountDTO> countEmployees(@Param("position") String position,
+                                      @Param("projectId") Long projectId);
+
+    // Employees per department as maintained in the headcount table by HeadcountService
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT new com.example.employee_management_system.DTO.HeadcountDTO(d.id, d.name, COALESCE(h.headcount, 0L))"
+            + " FROM Department d LEFT JOIN Headcount h"
+            + " ON h.scope = com.example.employee_management_system.model.Headcount.Scope.DEPARTMENT AND h.refId = d.id"
+            + " ORDER BY d.id")
+    List<HeadcountDTO> findStoredHeadcounts();
+
+    // Employees per department and position; only combinations with employees are returned
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT new com.example.employee_management_system.DTO.HeadcountDTO(d.id, d.name, e.position, COUNT(e.id))"
+            + " FROM Employee e JOIN e.department d"
+            + " WHERE (:position IS NULL OR e.position = :position)"
+            + " AND (:projectId IS NULL OR EXISTS (SELECT 1 FROM e.projects fp WHERE fp.id = :projectId))"
+            + " GROUP BY d.id, d.name, e.position ORDER BY d.id, e.position")
+    List<HeadcountDTO> countEmployeesByPosition(@Param("position") String position,
+                                                @Param("projectId") Long projectId);
+
+    // Departments written after (since, afterId) in (updatedAt, id) order, as in EmployeeRepository
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT d.id AS id, d.name AS name, d.version AS version, d.updatedAt AS updatedAt"
+            + " FROM Department d WHERE d.updatedAt > :since OR (d.updatedAt = :since AND d.id > :afterId)"
+            + " ORDER BY d.updatedAt, d.id")
+    List<NamedChangeView> findViewsChangedAfter(@Param("since") Instant since,
+                                                @Param("afterId") long afterId,
+                                                Limit limit);
 }
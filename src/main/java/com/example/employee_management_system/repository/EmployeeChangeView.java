@@ -0,0 +1,10 @@
+package com.example.employee_management_system.repository;
+
+import java.time.Instant;
+
+/**
+ * {@link EmployeeView} with the time the employee was last written, for the delta sync.
+ */
+public interface EmployeeChangeView extends EmployeeView {
+    Instant getUpdatedAt();
+}
@@ -0,0 +1,12 @@
+package com.example.employee_management_system.repository;
+
+/**
+ * Read-only row with the searchable fields of an employee.
+ */
+public interface EmployeeNameView {
+    Long getId();
+
+    String getName();
+
+    String getPosition();
+}
@@ -1,7 +1,102 @@
 package com.example.employee_management_system.repository;
 
+import com.example.employee_management_system.model.Department;
 import com.example.employee_management_system.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+
+    // Rows the driver fetches per round trip when streaming
+    int STREAM_FETCH_SIZE = 1000;
+
+    // Select and grouping of the EmployeeView projection; project IDs are aggregated in SQL
+    String VIEW_COLUMNS = "SELECT e.id AS id, e.name AS name, e.position AS position, e.version AS version,"
+            + " e.department.id AS departmentId, listagg(cast(p.id AS String), ',') AS projectIds";
+    String VIEW_FROM = " FROM Employee e LEFT JOIN e.projects p";
+    String VIEW_SELECT = VIEW_COLUMNS + VIEW_FROM;
+
+    String VIEW_GROUP_BY = " GROUP BY e.id, e.name, e.position, e.version, e.department.id";
+
+    // Only the version, to answer If-None-Match without reading the rest of the row
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT e.version FROM Employee e WHERE e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Single employee with department and projects in one joined select
+    @Override
+    @EntityGraph(attributePaths = {"department", "projects"})
+    Optional<Employee> findById(Long id);
+
+    // Projections never hydrate entities; MANUAL (formerly NEVER) flush mode
+    // also keeps them from flushing the persistence context first
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(VIEW_SELECT + " WHERE e.id = :id" + VIEW_GROUP_BY)
+    Optional<EmployeeView> findViewById(@Param("id") Long id);
+
+    // Keyset page ordered by id, as projection rows; every filter is optional (null = not applied)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(VIEW_SELECT + " WHERE e.id > :after"
+            + " AND (:departmentId IS NULL OR e.department.id = :departmentId)"
+            + " AND (:position IS NULL OR e.position = :position)"
+            + " AND (:projectId IS NULL OR EXISTS (SELECT 1 FROM e.projects fp WHERE fp.id = :projectId))"
+            + VIEW_GROUP_BY + " ORDER BY e.id")
+    List<EmployeeView> findViewPage(@Param("after") long after,
+                                    @Param("departmentId") Long departmentId,
+                                    @Param("projectId") Long projectId,
+                                    @Param("position") String position,
+                                    Limit limit);
+
+    // Every employee in id order, read through a server-side cursor. Must be consumed
+    // (and closed) inside a transaction; rows are fetched STREAM_FETCH_SIZE at a time.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(VIEW_SELECT + VIEW_GROUP_BY + " ORDER BY e.id")
+    Stream<EmployeeView> streamAllViews();
+
+    // Employees written after (since, afterId) in (updatedAt, id) order, read through the
+    // updated_at index; an afterId of 0 includes every employee written at since
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(VIEW_COLUMNS + ", e.updatedAt AS updatedAt" + VIEW_FROM
+            + " WHERE e.updatedAt > :since OR (e.updatedAt = :since AND e.id > :afterId)"
+            + VIEW_GROUP_BY + ", e.updatedAt ORDER BY e.updatedAt, e.id")
+    List<EmployeeChangeView> findViewsChangedAfter(@Param("since") Instant since,
+                                                   @Param("afterId") long afterId,
+                                                   Limit limit);
+
+    // Moves every employee of a department in one statement, versioned and timestamped like an entity
+    // update. Employees already loaded in the persistence context are not updated.
+    @Modifying
+    @Query("UPDATE Employee e SET e.department = :to, e.version = e.version + 1, e.updatedAt = :now"
+            + " WHERE e.department.id = :fromId")
+    int moveDepartment(@Param("fromId") Long fromId, @Param("to") Department to, @Param("now") Instant now);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT e.id AS id, e.name AS name, e.position AS position FROM Employee e WHERE e.id IN :ids")
+    List<EmployeeNameView> findNameViews(@Param("ids") Collection<Long> ids);
+
+    // Searchable fields of every employee through a server-side cursor, like streamAllViews
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e.id AS id, e.name AS name, e.position AS position FROM Employee e")
+    Stream<EmployeeNameView> streamAllNameViews();
 }
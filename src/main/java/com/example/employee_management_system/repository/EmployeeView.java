@@ -0,0 +1,21 @@
+package com.example.employee_management_system.repository;
+
+/**
+ * Read-only row of an employee with its project IDs aggregated by the database
+ * into a comma-separated string (null when the employee has no projects).
+ * On MySQL this is GROUP_CONCAT, bounded by the group_concat_max_len session
+ * variable set on the datasource URL.
+ */
+public interface EmployeeView {
+    Long getId();
+
+    String getName();
+
+    String getPosition();
+
+    Long getVersion();
+
+    Long getDepartmentId();
+
+    String getProjectIds();
+}
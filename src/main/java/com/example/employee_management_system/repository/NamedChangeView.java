@@ -0,0 +1,16 @@
+package com.example.employee_management_system.repository;
+
+import java.time.Instant;
+
+/**
+ * Read-only row of a written department or project, for the delta sync.
+ */
+public interface NamedChangeView {
+    Long getId();
+
+    String getName();
+
+    Long getVersion();
+
+    Instant getUpdatedAt();
+}
@@ -1,12 +1,87 @@
 package com.example.employee_management_system.repository;
 
+import com.example.employee_management_system.DTO.HeadcountDTO;
+import com.example.employee_management_system.DTO.ProjectDTO;
 import com.example.employee_management_system.model.Project;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectRepository extends CrudRepository<Project, Long> {
+    // Cached query: resolves the IDs, the projects themselves come from the entity cache
     @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Project> findAllById(Iterable<Long> ids);
-}
\ No newline at end of file
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true")
+    })
+    @Query("SELECT new com.example.employee_management_system.DTO.ProjectDTO(p.id, p.name, p.version)"
+            + " FROM Project p ORDER BY p.id")
+    List<ProjectDTO> findAllDTOs();
+
+    // Only the version, to answer If-None-Match without reading the rest of the row
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT p.version FROM Project p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true")
+    })
+    @Query("SELECT new com.example.employee_management_system.DTO.ProjectDTO(p.id, p.name, p.version)"
+            + " FROM Project p WHERE p.id = :id")
+    Optional<ProjectDTO> findDTOById(@Param("id") Long id);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Employees assigned per project, including projects without any; filters as in
+    // DepartmentRepository.countEmployees. Counted from the employee_project join table.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT new com.example.employee_management_system.DTO.HeadcountDTO(p.id, p.name, COUNT(e.id))"
+            + " FROM Project p LEFT JOIN p.employees e"
+            + " ON (:position IS NULL OR e.position = :position)"
+            + " AND (:departmentId IS NULL OR e.department.id = :departmentId)"
+            + " GROUP BY p.id, p.name ORDER BY p.id")
+    List<HeadcountDTO> countEmployees(@Param("position") String position,
+                                      @Param("departmentId") Long departmentId);
+
+    // Employees per project as maintained in the headcount table by HeadcountService
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT new com.example.employee_management_system.DTO.HeadcountDTO(p.id, p.name, COALESCE(h.headcount, 0L))"
+            + " FROM Project p LEFT JOIN Headcount h"
+            + " ON h.scope = com.example.employee_management_system.model.Headcount.Scope.PROJECT AND h.refId = p.id"
+            + " ORDER BY p.id")
+    List<HeadcountDTO> findStoredHeadcounts();
+
+    // Employees assigned per project and position; only combinations with employees are returned
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT new com.example.employee_management_system.DTO.HeadcountDTO(p.id, p.name, e.position, COUNT(e.id))"
+            + " FROM Employee e JOIN e.projects p"
+            + " WHERE (:position IS NULL OR e.position = :position)"
+            + " AND (:departmentId IS NULL OR e.department.id = :departmentId)"
+            + " GROUP BY p.id, p.name, e.position ORDER BY p.id, e.position")
+    List<HeadcountDTO> countEmployeesByPosition(@Param("position") String position,
+                                                @Param("departmentId") Long departmentId);
+
+    // Projects written after (since, afterId) in (updatedAt, id) order, as in EmployeeRepository
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT p.id AS id, p.name AS name, p.version AS version, p.updatedAt AS updatedAt"
+            + " FROM Project p WHERE p.updatedAt > :since OR (p.updatedAt = :since AND p.id > :afterId)"
+            + " ORDER BY p.updatedAt, p.id")
+    List<NamedChangeView> findViewsChangedAfter(@Param("since") Instant since,
+                                                @Param("afterId") long afterId,
+                                                Limit limit);
+}
@@ -0,0 +1,30 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.model.Tombstone;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    // Deletions after (since, afterId) in (deletedAt, id) order, read through the deleted_at index
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Tombstone t WHERE t.deletedAt > :since OR (t.deletedAt = :since AND t.id > :afterId)"
+            + " ORDER BY t.deletedAt, t.id")
+    List<Tombstone> findDeletedAfter(@Param("since") Instant since, @Param("afterId") long afterId, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") Instant before);
+}
@@ -1,13 +1,21 @@
 package com.example.employee_management_system.service;
 
+import com.example.employee_management_system.DTO.ReassignmentResultDTO;
 import com.example.employee_management_system.exception.ResourceNotFoundException;
 import com.example.employee_management_system.model.Department;
 import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.repository.EmployeeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class DepartmentService {
@@ -15,6 +23,18 @@ public class DepartmentService {
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private HeadcountService headcountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public ArrayList<Department> findAll() {
         // Fetch data from the database
         List<Department> departments = departmentRepository.findAll();
@@ -30,11 +50,61 @@ public class DepartmentService {
         return departmentRepository.findById(id).orElse(null);
     }
     public Department save(Department department) {
-        return departmentRepository.save(department);
+        Department saved = departmentRepository.save(department);
+        eventPublisher.publishEvent(ResourceChangedEvent.saved(ResourceType.DEPARTMENT, saved.getId()));
+        return saved;
     }
 
+    // Fails with a DataIntegrityViolationException while employees still belong to the department
+    @Transactional
     public void deleteById(Long id) {
+        // Checked first so that no change event or tombstone is recorded for a missing department
+        if (!departmentRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Department not found with id: " + id);
+        }
         departmentRepository.deleteById(id);
+        eventPublisher.publishEvent(ResourceChangedEvent.deleted(ResourceType.DEPARTMENT, id));
+    }
+
+    /**
+     * Moves the employees of the department to {@code reassignTo}, then deletes the department.
+     */
+    @Transactional
+    public ReassignmentResultDTO deleteById(Long id, Long reassignTo) {
+        ReassignmentResultDTO result = reassignEmployees(id, reassignTo);
+        deleteById(id);
+        return result;
+    }
+
+    /**
+     * Moves every employee of department {@code fromId} to department {@code toId} with one
+     * UPDATE, instead of loading and saving each employee. Projects are left as they are.
+     */
+    @Transactional
+    public ReassignmentResultDTO reassignEmployees(Long fromId, Long toId) {
+        if (fromId == null || toId == null) {
+            throw new IllegalArgumentException("Both departments are required");
+        }
+        if (fromId.equals(toId)) {
+            throw new IllegalArgumentException("Employees cannot be reassigned to their own department");
+        }
+        Set<Long> missing = new HashSet<>(List.of(fromId, toId));
+        departmentRepository.findExistingIds(missing).forEach(missing::remove);
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Department not found with id: " + missing.iterator().next());
+        }
+
+        // Locks the rows so that concurrent changes to these employees wait for the move
+        List<Long> employeeIds = jdbcTemplate.queryForList(
+                "SELECT id FROM employee WHERE department_id = ? FOR UPDATE", Long.class, fromId);
+        if (employeeIds.isEmpty()) {
+            return new ReassignmentResultDTO(fromId, toId, 0);
+        }
+        int moved = employeeRepository.moveDepartment(fromId, departmentRepository.getReferenceById(toId),
+                Instant.now());
+        headcountService.recordMoved(fromId, toId, moved);
+        eventPublisher.publishEvent(ResourceChangedEvent.saved(ResourceType.EMPLOYEE, employeeIds));
+        return new ReassignmentResultDTO(fromId, toId, moved);
     }
 
     public Department findById(Integer id) {
@@ -0,0 +1,341 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.DepartmentDTO;
+import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.DTO.HeadcountDTO;
+import com.example.employee_management_system.DTO.PageDTO;
+import com.example.employee_management_system.DTO.ProjectDTO;
+import com.example.employee_management_system.exception.ResourceNotFoundException;
+import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.repository.EmployeeView;
+import com.example.employee_management_system.repository.ProjectRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Read-only query layer for the GET endpoints. Results are mapped straight from
+ * projection queries into DTOs, so no entities are hydrated, snapshotted or
+ * dirty-checked for data that is only serialized.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DirectoryQueryService {
+
+    // Rows written between persistence context clears (and output flushes) during an export
+    static final int EXPORT_FLUSH_INTERVAL = EmployeeRepository.STREAM_FETCH_SIZE;
+
+    // Select expression per sparse employee field. The department ID is the foreign key
+    // column, so it needs no join; only projectIds joins (and groups) employee_project.
+    private static final Map<String, String> EMPLOYEE_COLUMNS = Map.of(
+            "id", "e.id",
+            "name", "e.name",
+            "position", "e.position",
+            "version", "e.version",
+            "departmentId", "e.department.id",
+            "projectIds", "listagg(cast(p.id AS String), ',')");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // How long coalesced by-ID results are reused; zero only shares loads that overlap in time
+    @Value("${ems.lookup.ttl:PT0S}")
+    private Duration lookupTtl;
+
+    private SingleFlight<Long, EmployeeDTO> employeeLookups;
+    private SingleFlight<Long, DepartmentDTO> departmentLookups;
+    private SingleFlight<Long, ProjectDTO> projectLookups;
+
+    @PostConstruct
+    void createLookups() {
+        employeeLookups = new SingleFlight<>("employee", lookupTtl, meterRegistry);
+        departmentLookups = new SingleFlight<>("department", lookupTtl, meterRegistry);
+        projectLookups = new SingleFlight<>("project", lookupTtl, meterRegistry);
+    }
+
+    public PageDTO<EmployeeDTO> findEmployeePage(String after, int limit, Long departmentId, Long projectId,
+                                                 String position) {
+        checkPageLimit(limit);
+        long afterId = PageCursor.decode(after);
+        String positionFilter = blankToNull(position);
+
+        // Ask for one extra row to know whether another page exists
+        List<EmployeeView> views = employeeRepository.findViewPage(afterId, departmentId, projectId,
+                positionFilter, Limit.of(limit + 1));
+        List<EmployeeView> page = views.size() <= limit ? views : views.subList(0, limit);
+        String nextCursor = views.size() > limit ? PageCursor.encode(page.get(limit - 1).getId()) : null;
+        return new PageDTO<>(page.stream().map(DirectoryQueryService::toDTO).toList(), nextCursor);
+    }
+
+    /**
+     * Same page as {@link #findEmployeePage}, reduced to the selected fields. Only their columns
+     * are selected, and the project join and grouping are left out unless projectIds is selected.
+     */
+    public PageDTO<Map<String, Object>> findEmployeePage(String after, int limit, Long departmentId,
+                                                         Long projectId, String position, FieldSelection fields) {
+        checkPageLimit(limit);
+        long afterId = PageCursor.decode(after);
+        String positionFilter = blankToNull(position);
+        boolean withProjects = fields.includes("projectIds");
+
+        // The id is always selected: the next cursor is built from it
+        StringBuilder jpql = new StringBuilder("SELECT e.id AS id");
+        StringBuilder groupBy = new StringBuilder(" GROUP BY e.id");
+        for (String field : fields.fields()) {
+            if (field.equals("id")) {
+                continue;
+            }
+            jpql.append(", ").append(EMPLOYEE_COLUMNS.get(field)).append(" AS ").append(field);
+            if (!field.equals("projectIds")) {
+                groupBy.append(", ").append(EMPLOYEE_COLUMNS.get(field));
+            }
+        }
+        jpql.append(" FROM Employee e");
+        if (withProjects) {
+            jpql.append(" LEFT JOIN e.projects p");
+        }
+        jpql.append(" WHERE e.id > :after");
+        if (departmentId != null) {
+            jpql.append(" AND e.department.id = :departmentId");
+        }
+        if (positionFilter != null) {
+            jpql.append(" AND e.position = :position");
+        }
+        if (projectId != null) {
+            jpql.append(" AND EXISTS (SELECT 1 FROM e.projects fp WHERE fp.id = :projectId)");
+        }
+        if (withProjects) {
+            jpql.append(groupBy);
+        }
+        jpql.append(" ORDER BY e.id");
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, "MANUAL")
+                .setParameter("after", afterId)
+                .setMaxResults(limit + 1);
+        if (departmentId != null) {
+            query.setParameter("departmentId", departmentId);
+        }
+        if (positionFilter != null) {
+            query.setParameter("position", positionFilter);
+        }
+        if (projectId != null) {
+            query.setParameter("projectId", projectId);
+        }
+
+        // Ask for one extra row to know whether another page exists
+        List<Tuple> rows = query.getResultList();
+        List<Tuple> page = rows.size() <= limit ? rows : rows.subList(0, limit);
+        String nextCursor = rows.size() > limit
+                ? PageCursor.encode(page.get(limit - 1).get("id", Long.class)) : null;
+        return new PageDTO<>(page.stream().map(row -> toMap(row, fields)).toList(), nextCursor);
+    }
+
+    // By-ID reads run outside a transaction, so callers waiting on a shared load hold no connection
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    // The version alone, for checking If-None-Match before findEmployee loads the employee
+    public Long findEmployeeVersion(Long id) {
+        return employeeRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    }
+
+    public EmployeeDTO findEmployee(Long id) {
+        return employeeLookups.get(id, key -> employeeRepository.findViewById(key)
+                .map(DirectoryQueryService::toDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + key)));
+    }
+
+    /**
+     * Writes every employee to {@code out} as newline-delimited JSON, one EmployeeDTO per line,
+     * and returns the number of lines written. Rows are read from a database cursor and written
+     * as they arrive, so memory use stays flat however many employees there are.
+     */
+    public long exportEmployees(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(EmployeeDTO.class);
+        long written = 0;
+        try (Stream<EmployeeView> views = employeeRepository.streamAllViews();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            Iterator<EmployeeView> rows = views.iterator();
+            while (rows.hasNext()) {
+                writer.writeValue(generator, toDTO(rows.next()));
+                generator.writeRaw('\n');
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    // Projection rows are not managed, but anything that did get attached
+                    // (e.g. by a listener) would otherwise pile up for the whole export
+                    entityManager.clear();
+                    generator.flush();
+                }
+            }
+        }
+        return written;
+    }
+
+    public List<DepartmentDTO> findDepartments() {
+        return departmentRepository.findAllDTOs();
+    }
+
+    public List<Map<String, Object>> findDepartments(FieldSelection fields) {
+        return findSparse("Department", fields);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    // The version alone, for checking If-None-Match before findDepartment loads the department
+    public Long findDepartmentVersion(Long id) {
+        return departmentRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
+    }
+
+    public DepartmentDTO findDepartment(Long id) {
+        return departmentLookups.get(id, key -> departmentRepository.findDTOById(key)
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + key)));
+    }
+
+    public List<ProjectDTO> findProjects() {
+        return projectRepository.findAllDTOs();
+    }
+
+    public List<Map<String, Object>> findProjects(FieldSelection fields) {
+        return findSparse("Project", fields);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    // The version alone, for checking If-None-Match before findProject loads the project
+    public Long findProjectVersion(Long id) {
+        return projectRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+    }
+
+    public ProjectDTO findProject(Long id) {
+        return projectLookups.get(id, key -> projectRepository.findDTOById(key)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + key)));
+    }
+
+    // Unfiltered totals come from the maintained headcount table; filtered ones are counted by the database
+    public List<HeadcountDTO> findDepartmentHeadcounts(String position, Long projectId, boolean byPosition) {
+        if (!byPosition && blankToNull(position) == null && projectId == null) {
+            return departmentRepository.findStoredHeadcounts();
+        }
+        return byPosition
+                ? departmentRepository.countEmployeesByPosition(blankToNull(position), projectId)
+                : departmentRepository.countEmployees(blankToNull(position), projectId);
+    }
+
+    public List<HeadcountDTO> findProjectHeadcounts(String position, Long departmentId, boolean byPosition) {
+        if (!byPosition && blankToNull(position) == null && departmentId == null) {
+            return projectRepository.findStoredHeadcounts();
+        }
+        return byPosition
+                ? projectRepository.countEmployeesByPosition(blankToNull(position), departmentId)
+                : projectRepository.countEmployees(blankToNull(position), departmentId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        SingleFlight<Long, ?> lookups = switch (event.type()) {
+            case EMPLOYEE -> employeeLookups;
+            case DEPARTMENT -> departmentLookups;
+            case PROJECT -> projectLookups;
+        };
+        event.ids().forEach(lookups::invalidate);
+    }
+
+    static EmployeeDTO toDTO(EmployeeView view) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setId(view.getId());
+        dto.setName(view.getName());
+        dto.setPosition(view.getPosition());
+        dto.setDepartmentId(view.getDepartmentId());
+        dto.setProjectIds(parseIds(view.getProjectIds()));
+        dto.setVersion(view.getVersion());
+        return dto;
+    }
+
+    // Departments and projects share their id, name and version columns
+    private List<Map<String, Object>> findSparse(String entity, FieldSelection fields) {
+        String columns = String.join(", ", fields.fields().stream().map(f -> "x." + f + " AS " + f).toList());
+        return entityManager.createQuery("SELECT " + columns + " FROM " + entity + " x ORDER BY x.id", Tuple.class)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, "MANUAL")
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultStream()
+                .map(row -> toMap(row, fields))
+                .toList();
+    }
+
+    private static Map<String, Object> toMap(Tuple row, FieldSelection fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields.fields()) {
+            Object value = row.get(field);
+            values.put(field, field.equals("projectIds") ? parseIds((String) value) : value);
+        }
+        return values;
+    }
+
+    private static void checkPageLimit(int limit) {
+        if (limit < 1 || limit > EmployeeService.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + EmployeeService.MAX_PAGE_SIZE);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static List<Long> parseIds(String aggregated) {
+        List<Long> ids = new ArrayList<>();
+        if (aggregated == null || aggregated.isEmpty()) {
+            return ids;
+        }
+        int start = 0;
+        while (start <= aggregated.length()) {
+            int end = aggregated.indexOf(',', start);
+            if (end < 0) {
+                end = aggregated.length();
+            }
+            ids.add(Long.parseLong(aggregated, start, end, 10));
+            start = end + 1;
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.BatchItemResultDTO;
+import com.example.employee_management_system.DTO.BatchResultDTO;
+import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.repository.ProjectRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Creates many employees at once with plain JDBC batches.
+ *
+ * Every chunk reserves its block of IDs up front from {@link EmployeeIdService},
+ * so it is sent as one JDBC batch without reading generated keys back, which the
+ * MySQL driver rewrites into a single multi-row INSERT (rewriteBatchedStatements=true).
+ */
+@Service
+public class EmployeeBatchService {
+
+    public static final int MAX_BATCH_SIZE = 10_000;
+    static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_EMPLOYEE =
+            "INSERT INTO employee (id, name, position, department_id, version, updated_at) VALUES (?, ?, ?, ?, 0, ?)";
+    private static final String INSERT_EMPLOYEE_PROJECT =
+            "INSERT INTO employee_project (employee_id, project_id) VALUES (?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private HeadcountService headcountService;
+
+    @Autowired
+    private EmployeeIdService employeeIdService;
+
+    @Transactional
+    public BatchResultDTO createAll(List<EmployeeDTO> employees) {
+        if (employees == null || employees.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one employee");
+        }
+        if (employees.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must not contain more than " + MAX_BATCH_SIZE + " employees");
+        }
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[employees.size()];
+
+        // Bean validation per item, so one bad item does not reject the whole batch
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < employees.size(); i++) {
+            String error = validate(employees.get(i));
+            if (error != null) {
+                results[i] = BatchItemResultDTO.failed(i, error);
+            } else {
+                valid.add(i);
+            }
+        }
+
+        // Resolve every referenced department and project with one query each
+        Set<Long> departmentIds = existingIds(valid.stream()
+                .map(i -> employees.get(i).getDepartmentId())
+                .collect(Collectors.toSet()), departmentRepository::findExistingIds);
+        Set<Long> projectIds = existingIds(valid.stream()
+                .flatMap(i -> employees.get(i).getProjectIds().stream())
+                .collect(Collectors.toSet()), projectRepository::findExistingIds);
+
+        List<Integer> accepted = new ArrayList<>();
+        for (int i : valid) {
+            EmployeeDTO employee = employees.get(i);
+            if (!departmentIds.contains(employee.getDepartmentId())) {
+                results[i] = BatchItemResultDTO.failed(i, "Department not found: " + employee.getDepartmentId());
+            } else if (!projectIds.containsAll(employee.getProjectIds())) {
+                List<Long> missing = employee.getProjectIds().stream()
+                        .filter(id -> !projectIds.contains(id))
+                        .distinct()
+                        .toList();
+                results[i] = BatchItemResultDTO.failed(i, "Projects not found: " + missing);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        List<EmployeeDTO> toInsert = accepted.stream().map(employees::get).toList();
+        List<EmployeeDTO> inserted = insert(toInsert);
+        for (int n = 0; n < accepted.size(); n++) {
+            results[accepted.get(n)] = BatchItemResultDTO.created(accepted.get(n), inserted.get(n));
+        }
+        return new BatchResultDTO(List.of(results));
+    }
+
+    /**
+     * Inserts already validated employees whose department and projects are known
+     * to exist, and returns copies carrying the generated IDs, in input order.
+     */
+    List<EmployeeDTO> insert(List<EmployeeDTO> employees) {
+        List<EmployeeDTO> inserted = new ArrayList<>(employees.size());
+        for (int from = 0; from < employees.size(); from += CHUNK_SIZE) {
+            List<EmployeeDTO> chunk = employees.subList(from, Math.min(from + CHUNK_SIZE, employees.size()));
+            List<Long> ids = insertEmployees(chunk);
+            for (int n = 0; n < chunk.size(); n++) {
+                inserted.add(copyWithId(chunk.get(n), ids.get(n)));
+            }
+        }
+        insertProjectAssignments(inserted);
+        headcountService.recordCreated(inserted.stream()
+                .map(employee -> new HeadcountService.Assignment(employee.getDepartmentId(),
+                        Set.copyOf(employee.getProjectIds())))
+                .toList());
+        if (!inserted.isEmpty()) {
+            eventPublisher.publishEvent(ResourceChangedEvent.saved(ResourceType.EMPLOYEE,
+                    inserted.stream().map(EmployeeDTO::getId).toList()));
+        }
+        return inserted;
+    }
+
+    private List<Long> insertEmployees(List<EmployeeDTO> chunk) {
+        long firstId = employeeIdService.reserve(chunk.size());
+        // Stored like Hibernate stores Instant columns, so the delta sync sees these rows
+        Timestamp updatedAt = Timestamp.from(Instant.now());
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC));
+        jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EmployeeDTO employee = chunk.get(i);
+                ps.setLong(1, firstId + i);
+                ps.setString(2, employee.getName());
+                ps.setString(3, employee.getPosition());
+                ps.setLong(4, employee.getDepartmentId());
+                ps.setTimestamp(5, updatedAt, utc);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chunk.size();
+            }
+        });
+        return LongStream.range(firstId, firstId + chunk.size()).boxed().toList();
+    }
+
+    private void insertProjectAssignments(List<EmployeeDTO> employees) {
+        List<long[]> rows = new ArrayList<>();
+        for (EmployeeDTO employee : employees) {
+            for (Long projectId : employee.getProjectIds()) {
+                rows.add(new long[]{employee.getId(), projectId});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_EMPLOYEE_PROJECT, rows, CHUNK_SIZE, (ps, row) -> {
+            ps.setLong(1, row[0]);
+            ps.setLong(2, row[1]);
+        });
+    }
+
+    private String validate(EmployeeDTO employee) {
+        if (employee == null) {
+            return "Employee must not be null";
+        }
+        Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(employee);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static Set<Long> existingIds(Collection<Long> ids, Function<Collection<Long>, List<Long>> lookup) {
+        // Skip the query entirely when nothing is referenced
+        return ids.isEmpty() ? Set.of() : new HashSet<>(lookup.apply(ids));
+    }
+
+    private static EmployeeDTO copyWithId(EmployeeDTO source, Long id) {
+        EmployeeDTO copy = new EmployeeDTO();
+        copy.setId(id);
+        copy.setName(source.getName());
+        copy.setPosition(source.getPosition());
+        copy.setDepartmentId(source.getDepartmentId());
+        // Duplicate project IDs would violate the employee_project primary key
+        copy.setProjectIds(source.getProjectIds().stream().filter(Objects::nonNull).distinct().toList());
+        return copy;
+    }
+}
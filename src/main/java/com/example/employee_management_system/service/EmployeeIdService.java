@@ -0,0 +1,71 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.model.Employee;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Owns the {@code id_generator} row that employee IDs are allocated from. Hibernate takes
+ * blocks of {@link Employee#ID_BLOCK_SIZE} from it for saved entities, and the JDBC batch
+ * inserts reserve a block per chunk, so no insert needs a database-generated key. The row
+ * holds the lowest ID not handed out yet (Hibernate's pooled-lo scheme).
+ *
+ * Databases created before the generator hold AUTO_INCREMENT IDs, so at startup, before
+ * the application takes requests, the row is moved above the highest existing ID.
+ */
+@Service
+public class EmployeeIdService implements SmartInitializingSingleton {
+
+    private static final String MAX_ID = "(SELECT COALESCE(MAX(id), 0) FROM employee)";
+    private static final String SEED = "UPDATE " + Employee.ID_TABLE + " SET next_val = " + MAX_ID + " + 1"
+            + " WHERE sequence_name = ? AND next_val <= " + MAX_ID;
+    private static final String INSERT = "INSERT INTO " + Employee.ID_TABLE + " (sequence_name, next_val)"
+            + " SELECT ?, COALESCE(MAX(id), 0) + 1 FROM employee";
+    private static final String RESERVE = "UPDATE " + Employee.ID_TABLE + " SET next_val = next_val + ?"
+            + " WHERE sequence_name = ?";
+    private static final String NEXT = "SELECT next_val FROM " + Employee.ID_TABLE + " WHERE sequence_name = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        seed();
+    }
+
+    // Safe to run on every startup and from several instances at once
+    void seed() {
+        if (!jdbcTemplate.queryForList(NEXT, Long.class, Employee.ID_KEY).isEmpty()) {
+            jdbcTemplate.update(SEED, Employee.ID_KEY);
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT, Employee.ID_KEY);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(SEED, Employee.ID_KEY);
+        }
+    }
+
+    /**
+     * Reserves {@code count} consecutive IDs and returns the first. The reservation commits
+     * on its own, as Hibernate's do, so the row is locked only briefly and IDs of a rolled
+     * back insert are skipped rather than reused.
+     */
+    public long reserve(int count) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transaction.execute(status -> {
+            jdbcTemplate.update(RESERVE, count, Employee.ID_KEY);
+            return jdbcTemplate.queryForObject(NEXT, Long.class, Employee.ID_KEY) - count;
+        });
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.DepartmentDTO;
+import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.DTO.ImportRejectionDTO;
+import com.example.employee_management_system.DTO.ImportResultDTO;
+import com.example.employee_management_system.DTO.ProjectDTO;
+import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.repository.ProjectRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Imports employees from CSV files far larger than a request batch.
+ *
+ * Expected columns: {@code name,position,department,projects}, where department
+ * and projects are names and projects are separated by {@value #PROJECT_SEPARATOR}.
+ * The file is parsed as a stream and handled in chunks: each chunk is validated
+ * in parallel, then its valid rows are written with the JDBC batches of
+ * {@link EmployeeBatchService} and committed. Invalid rows are counted and
+ * reported, never written.
+ */
+@Service
+public class EmployeeImportService {
+
+    static final int CHUNK_SIZE = EmployeeBatchService.CHUNK_SIZE;
+    // Rejections listed individually in the result; any further ones are only counted
+    static final int MAX_REPORTED_REJECTIONS = 100;
+    static final String PROJECT_SEPARATOR = ";";
+
+    static final String NAME = "name";
+    static final String POSITION = "position";
+    static final String DEPARTMENT = "department";
+    static final String PROJECTS = "projects";
+
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            // Empty lines are skipped in the loop below, so the line count stays exact
+            .setIgnoreEmptyLines(false)
+            .setTrim(true)
+            .build();
+
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    public ImportResultDTO importCsv(InputStream input) throws IOException {
+        long started = System.nanoTime();
+        ImportResultDTO result = new ImportResultDTO();
+
+        // Departments and projects are resolved by name from lookups built once per import
+        NameLookup departments = NameLookup.of(departmentRepository.findAllDTOs(),
+                DepartmentDTO::getName, DepartmentDTO::getId);
+        NameLookup projects = NameLookup.of(projectRepository.findAllDTOs(),
+                ProjectDTO::getName, ProjectDTO::getId);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        try (CSVParser parser = FORMAT.parse(reader)) {
+            checkHeader(parser.getHeaderNames());
+            boolean hasProjects = parser.getHeaderNames().contains(PROJECTS);
+
+            List<Source> chunk = new ArrayList<>(CHUNK_SIZE);
+            // Records are read one at a time, so the parser's line count ends at the previous
+            // record; quoted values can span lines, so the record number would not do
+            long line = parser.getCurrentLineNumber() + 1;
+            for (CSVRecord record : parser) {
+                long start = line;
+                line = parser.getCurrentLineNumber() + 1;
+                if (record.size() == 1 && record.get(0).isEmpty()) {
+                    continue;
+                }
+                chunk.add(new Source(start, record));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, hasProjects, departments, projects, transactionTemplate, result);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, hasProjects, departments, projects, transactionTemplate, result);
+        } catch (UncheckedIOException e) {
+            // Chunks before the malformed record have already been committed
+            throw new IllegalArgumentException("Malformed CSV after row " + result.getRowsRead()
+                    + " (" + result.getImported() + " rows imported): " + e.getMessage(), e);
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setRowsPerSecond(elapsedNanos == 0 ? 0 : result.getRowsRead() * 1e9 / elapsedNanos);
+        return result;
+    }
+
+    private void importChunk(List<Source> chunk, boolean hasProjects, NameLookup departments,
+                             NameLookup projects, TransactionTemplate transactionTemplate,
+                             ImportResultDTO result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        // Validation is CPU-only and independent per row; results keep file order
+        Row[] rows = IntStream.range(0, chunk.size())
+                .parallel()
+                .mapToObj(i -> toRow(chunk.get(i), hasProjects, departments, projects))
+                .toArray(Row[]::new);
+
+        List<EmployeeDTO> valid = new ArrayList<>(rows.length);
+        for (Row row : rows) {
+            if (row.error() == null) {
+                valid.add(row.employee());
+            } else {
+                reject(result, row.line(), row.error());
+            }
+        }
+        if (!valid.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> employeeBatchService.insert(valid));
+        }
+        result.setRowsRead(result.getRowsRead() + rows.length);
+        result.setImported(result.getImported() + valid.size());
+    }
+
+    private Row toRow(Source source, boolean hasProjects, NameLookup departments, NameLookup projects) {
+        CSVRecord record = source.record();
+        long line = source.line();
+        if (!record.isConsistent()) {
+            return Row.rejected(line, "Expected " + record.getParser().getHeaderNames().size()
+                    + " columns but found " + record.size());
+        }
+
+        List<String> errors = new ArrayList<>();
+        EmployeeDTO employee = new EmployeeDTO();
+        employee.setName(record.get(NAME));
+        employee.setPosition(record.get(POSITION));
+        for (String property : List.of(NAME, POSITION)) {
+            for (ConstraintViolation<EmployeeDTO> violation : validator.validateProperty(employee, property)) {
+                errors.add(violation.getMessage());
+            }
+        }
+
+        // Resolved IDs are never null, which covers the remaining EmployeeDTO constraints
+        String department = record.get(DEPARTMENT);
+        if (department.isEmpty()) {
+            errors.add("Department must not be empty");
+        } else {
+            String error = departments.check(department);
+            if (error != null) {
+                errors.add("Department " + error + ": " + department);
+            } else {
+                employee.setDepartmentId(departments.idOf(department));
+            }
+        }
+
+        List<Long> projectIds = new ArrayList<>();
+        List<String> unresolved = new ArrayList<>();
+        if (hasProjects) {
+            for (String project : record.get(PROJECTS).split(PROJECT_SEPARATOR)) {
+                String name = project.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (projects.check(name) == null) {
+                    projectIds.add(projects.idOf(name));
+                } else {
+                    unresolved.add(name);
+                }
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            errors.add("Projects not found or not unique: " + unresolved);
+        }
+        employee.setProjectIds(projectIds);
+
+        return errors.isEmpty() ? new Row(line, employee, null) : Row.rejected(line, String.join(", ", errors));
+    }
+
+    private static void reject(ImportResultDTO result, long line, String error) {
+        result.setRejected(result.getRejected() + 1);
+        if (result.getRejections().size() < MAX_REPORTED_REJECTIONS) {
+            result.getRejections().add(new ImportRejectionDTO(line, error));
+        } else {
+            result.setRejectionsTruncated(true);
+        }
+    }
+
+    private static void checkHeader(List<String> header) {
+        List<String> missing = List.of(NAME, POSITION, DEPARTMENT).stream()
+                .filter(column -> !header.contains(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns: " + missing);
+        }
+    }
+
+    // A record and the line of the file it starts on
+    private record Source(long line, CSVRecord record) {}
+
+    private record Row(long line, EmployeeDTO employee, String error) {
+        static Row rejected(long line, String error) {
+            return new Row(line, null, error);
+        }
+    }
+
+    // Name to ID lookup; names used by more than one row cannot be resolved
+    private record NameLookup(Map<String, Long> ids, Set<String> duplicates) {
+
+        static <T> NameLookup of(List<T> items, Function<T, String> name, Function<T, Long> id) {
+            Map<String, Long> ids = new HashMap<>();
+            Set<String> duplicates = new HashSet<>();
+            for (T item : items) {
+                if (ids.putIfAbsent(name.apply(item), id.apply(item)) != null) {
+                    duplicates.add(name.apply(item));
+                }
+            }
+            return new NameLookup(ids, duplicates);
+        }
+
+        // Null if the name resolves to exactly one ID, otherwise the reason it does not
+        String check(String name) {
+            if (duplicates.contains(name)) {
+                return "name is not unique";
+            }
+            return ids.containsKey(name) ? null : "not found";
+        }
+
+        Long idOf(String name) {
+            return ids.get(name);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.EmployeeSearchHitDTO;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory token index over employee name and position.
+ *
+ * Every word is normalized (lower case, accents stripped) and kept in a sorted
+ * map from token to employee IDs, so looking up a prefix is a range scan over
+ * the matching tokens only. Searches run lock-free against the concurrent maps;
+ * updates are serialized, which keeps the token sets consistent at the cost of
+ * one writer at a time.
+ */
+class EmployeeSearchIndex {
+
+    // Weights of a query token matching a word of the name or the position
+    static final double NAME_EXACT = 4;
+    static final double NAME_PREFIX = 3;
+    static final double POSITION_EXACT = 2;
+    static final double POSITION_PREFIX = 1;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Comparator<EmployeeSearchHitDTO> RANKING =
+            Comparator.comparingDouble(EmployeeSearchHitDTO::getScore).reversed()
+                    .thenComparing(hit -> hit.getName().length())
+                    .thenComparing(EmployeeSearchHitDTO::getId);
+
+    private final ConcurrentSkipListMap<String, Set<Long>> tokens = new ConcurrentSkipListMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    private record Document(Long id, String name, String position,
+                            List<String> nameTokens, List<String> positionTokens) {}
+
+    synchronized void put(Long id, String name, String position) {
+        Document document = new Document(id, name, position, tokenize(name), tokenize(position));
+        Document previous = documents.put(id, document);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(document);
+    }
+
+    synchronized void remove(Long id) {
+        Document previous = documents.remove(id);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    /**
+     * Employees having, for every word of the query, a name or position word that
+     * starts with it. Exact word matches rank above prefix matches and name matches
+     * above position matches.
+     */
+    List<EmployeeSearchHitDTO> search(String query, int limit) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        // Intersect the most selective (longest) prefixes first
+        Set<Long> candidates = null;
+        for (String token : queryTokens.stream().sorted(Comparator.comparingInt(String::length).reversed()).toList()) {
+            Set<Long> matching = new HashSet<>();
+            for (Set<Long> ids : tokens.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                if (candidates == null) {
+                    matching.addAll(ids);
+                } else {
+                    for (Long id : ids) {
+                        if (candidates.contains(id)) {
+                            matching.add(id);
+                        }
+                    }
+                }
+            }
+            candidates = matching;
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        // Keep only the best `limit` hits instead of sorting every candidate
+        PriorityQueue<EmployeeSearchHitDTO> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Long id : candidates) {
+            Document document = documents.get(id);
+            if (document == null) {
+                continue;  // removed after the token lookup
+            }
+            best.add(new EmployeeSearchHitDTO(id, document.name(), document.position(), score(document, queryTokens)));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<EmployeeSearchHitDTO> hits = new ArrayList<>(best);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return SEPARATORS.splitAsStream(normalized)
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static double score(Document document, List<String> queryTokens) {
+        double score = 0;
+        for (String token : queryTokens) {
+            score += Math.max(match(document.nameTokens(), token, NAME_EXACT, NAME_PREFIX),
+                    match(document.positionTokens(), token, POSITION_EXACT, POSITION_PREFIX));
+        }
+        return score;
+    }
+
+    private static double match(List<String> words, String token, double exact, double prefix) {
+        double best = 0;
+        for (String word : words) {
+            if (word.equals(token)) {
+                return exact;
+            }
+            if (word.startsWith(token)) {
+                best = prefix;
+            }
+        }
+        return best;
+    }
+
+    private void index(Document document) {
+        for (String token : tokensOf(document)) {
+            tokens.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(document.id());
+        }
+    }
+
+    private void unindex(Document document) {
+        for (String token : tokensOf(document)) {
+            Set<Long> ids = tokens.get(token);
+            if (ids != null) {
+                ids.remove(document.id());
+                if (ids.isEmpty()) {
+                    tokens.remove(token, ids);
+                }
+            }
+        }
+    }
+
+    private static Set<String> tokensOf(Document document) {
+        Set<String> all = new HashSet<>(document.nameTokens());
+        all.addAll(document.positionTokens());
+        return all;
+    }
+}
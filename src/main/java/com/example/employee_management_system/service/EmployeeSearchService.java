@@ -0,0 +1,138 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.EmployeeSearchHitDTO;
+import com.example.employee_management_system.exception.ServiceUnavailableException;
+import com.example.employee_management_system.repository.EmployeeNameView;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Type-ahead search over employee name and position, served from an
+ * {@link EmployeeSearchIndex} held in memory.
+ *
+ * The index is built by a streaming scan once the application is ready and then
+ * kept current from committed {@link ResourceChangedEvent}s, which cover single
+ * saves and deletes as well as batch inserts and CSV imports. Changes that commit
+ * while a scan is running are re-read after the new index is swapped in.
+ */
+@Service
+public class EmployeeSearchService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 100;
+
+    // IDs per query when re-reading changed employees
+    static final int RELOAD_CHUNK_SIZE = 1000;
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSearchService.class);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile EmployeeSearchIndex index = new EmployeeSearchIndex();
+    private volatile boolean ready;
+
+    // Employees changed while a rebuild is scanning; null when no rebuild runs. Guarded by this.
+    private Set<Long> changedDuringRebuild;
+
+    public List<EmployeeSearchHitDTO> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("q must not be empty");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (!ready) {
+            throw new ServiceUnavailableException("Search index is being built");
+        }
+        return index.search(query, limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long started = System.nanoTime();
+        synchronized (this) {
+            changedDuringRebuild = new HashSet<>();
+        }
+
+        EmployeeSearchIndex rebuilt = new EmployeeSearchIndex();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<EmployeeNameView> rows = employeeRepository.streamAllNameViews()) {
+                rows.forEach(row -> rebuilt.put(row.getId(), row.getName(), row.getPosition()));
+            }
+        });
+
+        Set<Long> changed;
+        synchronized (this) {
+            index = rebuilt;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        }
+        reload(changed);
+        ready = true;
+        logger.info("Employee search index built with {} employees in {} ms",
+                rebuilt.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        if (event.type() != ResourceType.EMPLOYEE) {
+            return;
+        }
+        synchronized (this) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(event.ids());
+            }
+        }
+        if (event.deleted()) {
+            event.ids().forEach(index::remove);
+        } else {
+            reload(event.ids());
+        }
+    }
+
+    // Re-reads the given employees; any no longer found are removed from the index
+    private void reload(Collection<Long> ids) {
+        List<Long> pending = new ArrayList<>(ids);
+        EmployeeSearchIndex target = index;
+        for (int from = 0; from < pending.size(); from += RELOAD_CHUNK_SIZE) {
+            List<Long> chunk = pending.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, pending.size()));
+            Set<Long> missing = new HashSet<>(chunk);
+            for (EmployeeNameView row : employeeRepository.findNameViews(chunk)) {
+                target.put(row.getId(), row.getName(), row.getPosition());
+                missing.remove(row.getId());
+            }
+            missing.forEach(target::remove);
+        }
+    }
+}
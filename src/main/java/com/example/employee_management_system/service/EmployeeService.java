@@ -4,18 +4,38 @@ import com.example.employee_management_system.DTO.EmployeeDTO;
 import com.example.employee_management_system.exception.ResourceNotFoundException;
 import com.example.employee_management_system.model.Employee;
 import com.example.employee_management_system.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Service
 public class EmployeeService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private HeadcountService headcountService;
+
+    @Autowired
+    private ProjectAssignmentService projectAssignmentService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public List<Employee> findAll() {
         return employeeRepository.findAll();
     }
@@ -28,7 +48,36 @@ public class EmployeeService {
     @Transactional
     public Employee save(Employee employee) {
         // Add any validation logic here
-        return employeeRepository.save(employee);
+        HeadcountService.Assignment before = employee.getId() == null
+                ? HeadcountService.Assignment.NONE
+                : headcountService.lockAssignment(employee.getId());
+        HeadcountService.Assignment after = HeadcountService.Assignment.of(employee);
+        if (employee.getId() != null && !before.projectIds().equals(after.projectIds())) {
+            // Project changes only touch the join table; mark the row for the delta sync
+            employee.setUpdatedAt(Instant.now());
+        }
+        Employee saved = employeeRepository.save(employee);
+        headcountService.recordChange(before, after);
+        eventPublisher.publishEvent(ResourceChangedEvent.saved(ResourceType.EMPLOYEE, saved.getId()));
+        return saved;
+    }
+
+    /**
+     * Saves the employee's own columns and, unless {@code projectIds} is null, makes them its
+     * complete set of projects. The employee's project list must be left as loaded (or null for
+     * a new employee): a replaced list makes Hibernate delete and re-insert every join row, while
+     * ProjectAssignmentService only writes the rows that change.
+     */
+    @Transactional
+    public Employee save(Employee employee, Collection<Long> projectIds) {
+        Employee saved = save(employee);
+        if (projectIds != null) {
+            entityManager.flush();
+            projectAssignmentService.replaceProjects(saved.getId(), projectIds);
+            // Projects and version were written past the persistence context
+            entityManager.refresh(saved);
+        }
+        return saved;
     }
 
     @Transactional
@@ -37,7 +86,10 @@ public class EmployeeService {
         if (!employeeRepository.existsById(id)) {
             throw new ResourceNotFoundException("Employee not found with id: " + id);
         }
+        HeadcountService.Assignment before = headcountService.lockAssignment(id);
         employeeRepository.deleteById(id);
+        headcountService.recordChange(before, HeadcountService.Assignment.NONE);
+        eventPublisher.publishEvent(ResourceChangedEvent.deleted(ResourceType.EMPLOYEE, id));
     }
 
     public Employee createEmployee(EmployeeDTO employeeDTO) {
@@ -51,8 +103,7 @@ public class EmployeeService {
         // employee.setDepartment(department);
 
         // Save the employee entity
-        return employeeRepository.save(employee);
+        return save(employee);
     }
-
 }
 
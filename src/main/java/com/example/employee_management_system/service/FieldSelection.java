@@ -0,0 +1,52 @@
+package com.example.employee_management_system.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fields requested through a {@code fields=} query parameter, e.g. {@code fields=id,name}.
+ * Names are validated against the fields a resource offers and kept in the resource's
+ * own order, so a response does not depend on the order they were requested in.
+ */
+public final class FieldSelection {
+
+    public static final List<String> EMPLOYEE_FIELDS =
+            List.of("id", "name", "position", "version", "departmentId", "projectIds");
+
+    public static final List<String> DEPARTMENT_FIELDS = List.of("id", "name", "version");
+
+    public static final List<String> PROJECT_FIELDS = List.of("id", "name", "version");
+
+    private final List<String> fields;
+
+    private FieldSelection(List<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Returns null when {@code fields} is absent or blank, meaning the full representation.
+     */
+    public static FieldSelection parse(String fields, List<String> available) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!available.contains(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "', expected any of " + available);
+            }
+            requested.add(name);
+        }
+        return new FieldSelection(available.stream().filter(requested::contains).toList());
+    }
+
+    public List<String> fields() {
+        return fields;
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.HeadcountDTO;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Headcount.Scope;
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.repository.ProjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Employees per department and per project, kept as counters so dashboards
+ * read them in constant time instead of aggregating the employee tables.
+ *
+ * Every write path reports the department and projects an employee had before
+ * and has after the change. The resulting deltas are added to the
+ * {@code headcount} table within the writing transaction, so the counters are
+ * read from the table and every instance sees them as soon as the write commits.
+ *
+ * A scheduled reconciliation recounts from the base tables and corrects the
+ * table. Counts and counters are read from one snapshot, and the correction is
+ * applied as a delta, so writes committing while it runs are kept.
+ */
+@Service
+public class HeadcountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeadcountService.class);
+
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private static final String INCREMENT = "UPDATE headcount SET headcount = headcount + ? WHERE scope = ? AND ref_id = ?";
+    private static final String INSERT = "INSERT INTO headcount (scope, ref_id, headcount) VALUES (?, ?, ?)";
+    private static final String SELECT = "SELECT headcount FROM headcount WHERE scope = ? AND ref_id = ?";
+    // Rows of departments or projects that no longer exist, once their counter is back at zero
+    private static final String DELETE = "DELETE FROM headcount WHERE scope = ? AND ref_id = ? AND headcount = 0";
+
+    /**
+     * Department and projects of one employee; {@link #NONE} for an employee that does not exist.
+     */
+    public record Assignment(Long departmentId, Set<Long> projectIds) {
+        public static final Assignment NONE = new Assignment(null, Set.of());
+
+        public static Assignment of(Employee employee) {
+            Long departmentId = employee.getDepartment() == null ? null : employee.getDepartment().getId();
+            Set<Long> projectIds = employee.getProjects() == null ? Set.of()
+                    : employee.getProjects().stream().map(Project::getId).collect(Collectors.toSet());
+            return new Assignment(departmentId, projectIds);
+        }
+    }
+
+    private record CounterKey(Scope scope, Long refId) {}
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    public long departmentHeadcount(Long departmentId) {
+        return get(Scope.DEPARTMENT, departmentId);
+    }
+
+    public long projectHeadcount(Long projectId) {
+        return get(Scope.PROJECT, projectId);
+    }
+
+    /**
+     * Committed department and projects of an employee. The employee row stays
+     * locked until the transaction ends, so concurrent changes to the same
+     * employee cannot both compute their deltas from the same starting point.
+     */
+    public Assignment lockAssignment(Long employeeId) {
+        List<Long> departmentIds = jdbcTemplate.queryForList(
+                "SELECT department_id FROM employee WHERE id = ? FOR UPDATE", Long.class, employeeId);
+        if (departmentIds.isEmpty()) {
+            return Assignment.NONE;
+        }
+        Set<Long> projectIds = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT project_id FROM employee_project WHERE employee_id = ?", Long.class, employeeId));
+        return new Assignment(departmentIds.get(0), projectIds);
+    }
+
+    public void recordChange(Assignment before, Assignment after) {
+        recordChanges(List.of(before), List.of(after));
+    }
+
+    // Changes of many employees are netted first, so each counter is written once
+    public void recordChanges(Collection<Assignment> before, Collection<Assignment> after) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        before.forEach(assignment -> add(deltas, assignment, -1));
+        after.forEach(assignment -> add(deltas, assignment, 1));
+        apply(deltas);
+    }
+
+    // Employees moved between departments as a whole; their projects are unchanged
+    public void recordMoved(Long fromDepartmentId, Long toDepartmentId, long count) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        deltas.merge(new CounterKey(Scope.DEPARTMENT, fromDepartmentId), -count, Long::sum);
+        deltas.merge(new CounterKey(Scope.DEPARTMENT, toDepartmentId), count, Long::sum);
+        apply(deltas);
+    }
+
+    public void recordCreated(Collection<Assignment> created) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        created.forEach(assignment -> add(deltas, assignment, 1));
+        apply(deltas);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${ems.headcount.reconcile-interval:PT15M}",
+            initialDelayString = "${ems.headcount.reconcile-interval:PT15M}")
+    public void reconcile() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // Counts and stored counters have to come from the same snapshot for their difference to be drift
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        // Databases that reject updating rows changed after the snapshot (H2, PostgreSQL) abort
+        // instead of applying the difference; the next attempt starts from a new snapshot
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    reconcile(Scope.DEPARTMENT, departmentRepository.countEmployees(null, null));
+                    reconcile(Scope.PROJECT, projectRepository.countEmployees(null, null));
+                });
+                return;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt == MAX_RECONCILE_ATTEMPTS) {
+                    throw e;
+                }
+                logger.debug("Headcount reconciliation conflicted with a concurrent write, retrying", e);
+            }
+        }
+    }
+
+    /**
+     * Adds the difference between the counted and the stored value to each counter.
+     * Writing the counted value instead would drop the deltas of writes that commit
+     * after the count was taken; added on top of them, the difference keeps them.
+     */
+    private void reconcile(Scope scope, List<HeadcountDTO> actual) {
+        Map<Long, Long> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT ref_id, headcount FROM headcount WHERE scope = ?",
+                row -> {
+                    stored.put(row.getLong(1), row.getLong(2));
+                }, scope.name());
+
+        int corrections = 0;
+        for (HeadcountDTO row : actual) {
+            Long current = stored.remove(row.getId());
+            long drift = row.getHeadcount() - (current == null ? 0 : current);
+            if (current == null || drift != 0) {
+                increment(new CounterKey(scope, row.getId()), drift);
+            }
+            if (current != null && drift != 0) {
+                corrections++;
+            }
+        }
+        // Whatever is left belongs to departments or projects that no longer exist
+        for (Map.Entry<Long, Long> orphan : stored.entrySet()) {
+            if (orphan.getValue() != 0) {
+                increment(new CounterKey(scope, orphan.getKey()), -orphan.getValue());
+            }
+            jdbcTemplate.update(DELETE, scope.name(), orphan.getKey());
+        }
+        if (corrections > 0) {
+            logger.warn("Corrected {} {} headcounts that had drifted from the employee tables", corrections, scope);
+        }
+    }
+
+    private void apply(Map<CounterKey, Long> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<CounterKey, Long> delta : deltas.entrySet()) {
+            increment(delta.getKey(), delta.getValue());
+        }
+    }
+
+    private void increment(CounterKey key, long delta) {
+        if (jdbcTemplate.update(INCREMENT, delta, key.scope().name(), key.refId()) > 0) {
+            return;
+        }
+        // First employee of a department or project, or its first reconciliation
+        try {
+            jdbcTemplate.update(INSERT, key.scope().name(), key.refId(), delta);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(INCREMENT, delta, key.scope().name(), key.refId());
+        }
+    }
+
+    private long get(Scope scope, Long refId) {
+        List<Long> rows = jdbcTemplate.queryForList(SELECT, Long.class, scope.name(), refId);
+        return rows.isEmpty() ? 0 : rows.get(0);
+    }
+
+    private static void add(Map<CounterKey, Long> deltas, Assignment assignment, long delta) {
+        if (assignment.departmentId() != null) {
+            deltas.merge(new CounterKey(Scope.DEPARTMENT, assignment.departmentId()), delta, Long::sum);
+        }
+        for (Long projectId : assignment.projectIds()) {
+            deltas.merge(new CounterKey(Scope.PROJECT, projectId), delta, Long::sum);
+        }
+    }
+}
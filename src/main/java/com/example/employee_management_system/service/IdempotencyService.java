@@ -0,0 +1,224 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.model.IdempotencyRecord;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Remembers the responses of POSTs sent with an Idempotency-Key so retries are
+ * answered from the first attempt instead of being executed again.
+ *
+ * Completed responses live in the idempotency_record table for the configured
+ * TTL, with a size-bounded in-memory cache in front. A request claims its key by
+ * inserting a pending row: the primary key lets exactly one request per key
+ * execute across all instances. Requests for a key already executing on this
+ * instance wait for its response; those executing elsewhere are told to retry.
+ * A pending row left behind by a crashed instance is taken over after the lease.
+ */
+@Service
+public class IdempotencyService {
+
+    public record StoredResponse(String fingerprint, int status, String contentType, HttpHeaders headers,
+                                 byte[] body) {}
+
+    public record Claim(Status status, StoredResponse response) {
+        public enum Status {
+            // The caller executes the request and then calls complete or release
+            ACQUIRED,
+            // The stored response answers the request
+            REPLAY,
+            // The key was used for a different request
+            MISMATCH,
+            // Another request with the key is still executing
+            IN_PROGRESS
+        }
+    }
+
+    private record StoredRow(StoredResponse response, long createdAt, long expiresAt) {}
+
+    private static final Claim ACQUIRED = new Claim(Claim.Status.ACQUIRED, null);
+    private static final Claim IN_PROGRESS = new Claim(Claim.Status.IN_PROGRESS, null);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration inFlightWait;
+    private final Cache<String, StoredResponse> responses;
+    private final ConcurrentMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(@Value("${ems.idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${ems.idempotency.lease:PT1M}") Duration lease,
+                              @Value("${ems.idempotency.in-flight-wait:PT10S}") Duration inFlightWait,
+                              @Value("${ems.idempotency.cache.max-size:10000}") long cacheMaxSize) {
+        this.ttl = ttl;
+        this.lease = lease;
+        this.inFlightWait = inFlightWait;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Claim claim(String recordKey, String fingerprint) {
+        long deadline = System.nanoTime() + inFlightWait.toNanos();
+        while (true) {
+            CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(recordKey, mine);
+            if (running != null) {
+                StoredResponse response;
+                try {
+                    response = running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException | ExecutionException e) {
+                    return IN_PROGRESS;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return IN_PROGRESS;
+                }
+                if (response != null) {
+                    return replay(response, fingerprint);
+                }
+                // The running request ended without a response worth keeping; try to claim the key again
+                continue;
+            }
+
+            Claim claim;
+            try {
+                claim = claimStored(recordKey, fingerprint);
+            } catch (RuntimeException e) {
+                finish(recordKey, null);
+                throw e;
+            }
+            if (claim.status() != Claim.Status.ACQUIRED) {
+                finish(recordKey, claim.response());
+            }
+            return claim;
+        }
+    }
+
+    public void complete(String recordKey, StoredResponse response) {
+        try {
+            jdbcTemplate.update("UPDATE idempotency_record SET response_status = ?, content_type = ?,"
+                            + " response_headers = ?, response_body = ? WHERE record_key = ?",
+                    response.status(), response.contentType(), encodeHeaders(response.headers()), response.body(),
+                    recordKey);
+            responses.put(recordKey, response);
+        } finally {
+            finish(recordKey, response);
+        }
+    }
+
+    // Gives up a claimed key, so that a retry executes the request again
+    public void release(String recordKey) {
+        try {
+            jdbcTemplate.update("DELETE FROM idempotency_record WHERE record_key = ? AND response_status IS NULL",
+                    recordKey);
+        } finally {
+            finish(recordKey, null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ems.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        jdbcTemplate.update("DELETE FROM idempotency_record WHERE expires_at <= ?", System.currentTimeMillis());
+    }
+
+    private Claim claimStored(String recordKey, String fingerprint) {
+        StoredResponse cached = responses.getIfPresent(recordKey);
+        if (cached != null) {
+            return replay(cached, fingerprint);
+        }
+
+        long now = System.currentTimeMillis();
+        List<StoredRow> rows = jdbcTemplate.query(
+                "SELECT fingerprint, response_status, content_type, response_headers, response_body, created_at,"
+                        + " expires_at FROM idempotency_record WHERE record_key = ?",
+                (rs, rowNum) -> {
+                    int status = rs.getInt(2);
+                    StoredResponse response = rs.wasNull() ? null
+                            : new StoredResponse(rs.getString(1), status, rs.getString(3),
+                                    decodeHeaders(rs.getString(4)), rs.getBytes(5));
+                    return new StoredRow(response, rs.getLong(6), rs.getLong(7));
+                },
+                recordKey);
+        if (!rows.isEmpty()) {
+            StoredRow row = rows.get(0);
+            if (row.expiresAt() > now) {
+                if (row.response() != null) {
+                    responses.put(recordKey, row.response());
+                    return replay(row.response(), fingerprint);
+                }
+                if (row.createdAt() + lease.toMillis() > now) {
+                    return IN_PROGRESS;
+                }
+            }
+            // Expired, or abandoned by an instance that never completed it
+            jdbcTemplate.update("DELETE FROM idempotency_record WHERE record_key = ? AND created_at = ?",
+                    recordKey, row.createdAt());
+        }
+
+        try {
+            jdbcTemplate.update("INSERT INTO idempotency_record (record_key, fingerprint, created_at, expires_at)"
+                    + " VALUES (?, ?, ?, ?)", recordKey, fingerprint, now, now + ttl.toMillis());
+        } catch (DuplicateKeyException e) {
+            // Claimed by a concurrent request on another instance
+            return IN_PROGRESS;
+        }
+        return ACQUIRED;
+    }
+
+    private void finish(String recordKey, StoredResponse response) {
+        // Removed before completing, so woken waiters do not find the finished future again
+        CompletableFuture<StoredResponse> running = inFlight.remove(recordKey);
+        if (running != null) {
+            running.complete(response);
+        }
+    }
+
+    private static Claim replay(StoredResponse response, String fingerprint) {
+        return response.fingerprint().equals(fingerprint)
+                ? new Claim(Claim.Status.REPLAY, response)
+                : new Claim(Claim.Status.MISMATCH, response);
+    }
+
+    // Header values cannot contain line breaks, so one header per line is unambiguous
+    private static String encodeHeaders(HttpHeaders headers) {
+        StringBuilder encoded = new StringBuilder();
+        headers.forEach((name, values) -> values.forEach(value ->
+                encoded.append(name).append(": ").append(value).append('\n')));
+        return encoded.toString();
+    }
+
+    private static HttpHeaders decodeHeaders(String encoded) {
+        HttpHeaders headers = new HttpHeaders();
+        if (encoded != null) {
+            encoded.lines().forEach(line -> {
+                int separator = line.indexOf(": ");
+                headers.add(line.substring(0, separator), line.substring(separator + 2));
+            });
+        }
+        return headers;
+    }
+
+    public static boolean storable(int status, int bodyLength) {
+        // Server errors are not replayed: the retry may well succeed
+        return status < 500 && bodyLength <= IdempotencyRecord.MAX_BODY_LENGTH;
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.StaffingChangeDTO;
+import com.example.employee_management_system.DTO.StaffingResultDTO;
+import com.example.employee_management_system.exception.ResourceNotFoundException;
+import com.example.employee_management_system.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.TreeSet;
+
+/**
+ * Changes which employees work on which projects with statements against the
+ * {@code employee_project} join table. Only the rows that actually change are
+ * inserted or deleted. Saving an entity with a replaced {@code projects} list
+ * instead makes Hibernate delete and re-insert every row of the employee,
+ * because the list is mapped as a bag.
+ *
+ * Every change, whether for one employee or a whole re-org, is applied the
+ * same way in one transaction: the IDs are validated with one query per
+ * table, the affected employee rows are locked in ID order (so concurrent
+ * changes are applied one after the other and cannot deadlock), and the join
+ * rows are written in JDBC batches. Entities of these employees already loaded
+ * in the calling transaction are not refreshed.
+ */
+@Service
+public class ProjectAssignmentService {
+
+    public static final int MAX_STAFFING_CHANGES = 10_000;
+
+    // Employee IDs per IN list, and join rows per JDBC batch
+    static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT =
+            "INSERT INTO employee_project (employee_id, project_id) VALUES (?, ?)";
+    private static final String DELETE =
+            "DELETE FROM employee_project WHERE employee_id = ? AND project_id = ?";
+    private static final String LOCK_EMPLOYEES =
+            "SELECT id, department_id FROM employee WHERE id IN (%s) ORDER BY id FOR UPDATE";
+    private static final String SELECT_ASSIGNMENTS =
+            "SELECT employee_id, project_id FROM employee_project WHERE employee_id IN (%s)";
+    // The rows change like an entity update would change them: new version for the ETag, new updated_at for the sync
+    private static final String TOUCH_EMPLOYEES =
+            "UPDATE employee SET version = version + 1, updated_at = ? WHERE id IN (%s)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private HeadcountService headcountService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Result of one pass: the project IDs every involved employee ends up with, and what was written
+    private record Applied(Map<Long, Set<Long>> projectIds, StaffingResultDTO result) {}
+
+    /**
+     * Assigns the {@code add} projects and unassigns the {@code remove} projects, ignoring
+     * those already (un)assigned, and returns the project IDs the employee ends up with.
+     */
+    @Transactional
+    public Set<Long> changeProjects(Long employeeId, Collection<Long> add, Collection<Long> remove) {
+        Map<Long, Set<Long>> adds = new HashMap<>();
+        Map<Long, Set<Long>> removes = new HashMap<>();
+        adds.put(employeeId, idSet(add, "Project"));
+        removes.put(employeeId, idSet(remove, "Project"));
+        return apply(adds, removes).projectIds().get(employeeId);
+    }
+
+    /**
+     * Makes {@code projectIds} the complete set of projects of the employee.
+     */
+    @Transactional
+    public Set<Long> replaceProjects(Long employeeId, Collection<Long> projectIds) {
+        Set<Long> current = headcountService.lockAssignment(employeeId).projectIds();
+        Set<Long> remove = new HashSet<>(current);
+        remove.removeAll(projectIds);
+        return changeProjects(employeeId, projectIds, remove);
+    }
+
+    /**
+     * Adds the {@code add} employees to the project and takes the {@code remove} employees off it.
+     */
+    @Transactional
+    public StaffingResultDTO changeMembers(Long projectId, Collection<Long> add, Collection<Long> remove) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+        Map<Long, Set<Long>> adds = new HashMap<>();
+        Map<Long, Set<Long>> removes = new HashMap<>();
+        idSet(add, "Employee").forEach(employeeId -> adds.put(employeeId, Set.of(projectId)));
+        idSet(remove, "Employee").forEach(employeeId -> removes.put(employeeId, Set.of(projectId)));
+        return apply(adds, removes).result();
+    }
+
+    /**
+     * Applies any mix of (employee, project, add/remove) changes.
+     */
+    @Transactional
+    public StaffingResultDTO applyStaffing(List<StaffingChangeDTO> changes) {
+        if (changes == null || changes.size() > MAX_STAFFING_CHANGES) {
+            throw new IllegalArgumentException("Between 0 and " + MAX_STAFFING_CHANGES + " changes are allowed");
+        }
+        Map<Long, Set<Long>> adds = new HashMap<>();
+        Map<Long, Set<Long>> removes = new HashMap<>();
+        for (int i = 0; i < changes.size(); i++) {
+            StaffingChangeDTO change = changes.get(i);
+            if (change == null || change.getEmployeeId() == null || change.getProjectId() == null
+                    || change.getAction() == null) {
+                throw new IllegalArgumentException("Change " + i + ": employeeId, projectId and action are required");
+            }
+            Map<Long, Set<Long>> target = change.getAction() == StaffingChangeDTO.Action.ADD ? adds : removes;
+            target.computeIfAbsent(change.getEmployeeId(), id -> new HashSet<>()).add(change.getProjectId());
+        }
+        return apply(adds, removes).result();
+    }
+
+    private Applied apply(Map<Long, Set<Long>> adds, Map<Long, Set<Long>> removes) {
+        Set<Long> addedProjects = new HashSet<>();
+        adds.forEach((employeeId, projectIds) -> {
+            Set<Long> both = new HashSet<>(projectIds);
+            both.retainAll(removes.getOrDefault(employeeId, Set.of()));
+            if (!both.isEmpty()) {
+                throw new IllegalArgumentException(
+                        "Employee " + employeeId + ": projects both added and removed: " + both);
+            }
+            addedProjects.addAll(projectIds);
+        });
+
+        // Projects to add must exist; removing a project that does not exist changes nothing
+        if (!addedProjects.isEmpty()) {
+            Set<Long> missing = new HashSet<>(addedProjects);
+            projectRepository.findExistingIds(addedProjects).forEach(missing::remove);
+            if (!missing.isEmpty()) {
+                throw new ResourceNotFoundException("Projects not found with ids: " + missing);
+            }
+        }
+
+        TreeSet<Long> employeeIds = new TreeSet<>(adds.keySet());
+        employeeIds.addAll(removes.keySet());
+        Map<Long, Long> departments = lockEmployees(List.copyOf(employeeIds));
+        if (departments.size() < employeeIds.size()) {
+            Set<Long> missing = new TreeSet<>(employeeIds);
+            missing.removeAll(departments.keySet());
+            throw new ResourceNotFoundException("Employees not found with ids: " + missing);
+        }
+        Map<Long, Set<Long>> current = currentAssignments(List.copyOf(employeeIds));
+
+        Map<Long, Set<Long>> projectIds = new HashMap<>();
+        List<long[]> inserts = new ArrayList<>();
+        List<long[]> deletes = new ArrayList<>();
+        List<Long> changed = new ArrayList<>();
+        List<HeadcountService.Assignment> before = new ArrayList<>();
+        List<HeadcountService.Assignment> after = new ArrayList<>();
+        for (Long employeeId : employeeIds) {
+            Set<Long> had = current.getOrDefault(employeeId, Set.of());
+            Set<Long> has = new HashSet<>(had);
+            for (Long projectId : adds.getOrDefault(employeeId, Set.of())) {
+                if (has.add(projectId)) {
+                    inserts.add(new long[]{employeeId, projectId});
+                }
+            }
+            for (Long projectId : removes.getOrDefault(employeeId, Set.of())) {
+                if (has.remove(projectId)) {
+                    deletes.add(new long[]{employeeId, projectId});
+                }
+            }
+            projectIds.put(employeeId, has);
+            if (!has.equals(had)) {
+                changed.add(employeeId);
+                before.add(new HeadcountService.Assignment(departments.get(employeeId), had));
+                after.add(new HeadcountService.Assignment(departments.get(employeeId), has));
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            batch(INSERT, inserts);
+            batch(DELETE, deletes);
+            touchEmployees(changed);
+            headcountService.recordChanges(before, after);
+            eventPublisher.publishEvent(ResourceChangedEvent.saved(ResourceType.EMPLOYEE, changed));
+        }
+        return new Applied(projectIds, new StaffingResultDTO(inserts.size(), deletes.size(), changed.size()));
+    }
+
+    private Map<Long, Long> lockEmployees(List<Long> employeeIds) {
+        Map<Long, Long> departments = new HashMap<>();
+        for (List<Long> chunk : chunks(employeeIds)) {
+            jdbcTemplate.query(String.format(LOCK_EMPLOYEES, placeholders(chunk.size())),
+                    rs -> {
+                        departments.put(rs.getLong(1), rs.getLong(2));
+                    },
+                    chunk.toArray());
+        }
+        return departments;
+    }
+
+    private Map<Long, Set<Long>> currentAssignments(List<Long> employeeIds) {
+        Map<Long, Set<Long>> assignments = new HashMap<>();
+        for (List<Long> chunk : chunks(employeeIds)) {
+            jdbcTemplate.query(String.format(SELECT_ASSIGNMENTS, placeholders(chunk.size())),
+                    rs -> {
+                        assignments.computeIfAbsent(rs.getLong(1), id -> new HashSet<>()).add(rs.getLong(2));
+                    },
+                    chunk.toArray());
+        }
+        return assignments;
+    }
+
+    private void touchEmployees(List<Long> employeeIds) {
+        // Stored like Hibernate stores Instant columns, as in EmployeeBatchService
+        Timestamp updatedAt = Timestamp.from(Instant.now());
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC));
+        for (List<Long> chunk : chunks(employeeIds)) {
+            jdbcTemplate.update(String.format(TOUCH_EMPLOYEES, placeholders(chunk.size())), ps -> {
+                ps.setTimestamp(1, updatedAt, utc);
+                for (int i = 0; i < chunk.size(); i++) {
+                    ps.setLong(i + 2, chunk.get(i));
+                }
+            });
+        }
+    }
+
+    private void batch(String sql, List<long[]> rows) {
+        jdbcTemplate.batchUpdate(sql, rows, CHUNK_SIZE, (ps, row) -> {
+            ps.setLong(1, row[0]);
+            ps.setLong(2, row[1]);
+        });
+    }
+
+    // A missing list (e.g. an explicit JSON null) changes nothing
+    private static Set<Long> idSet(Collection<Long> ids, String kind) {
+        if (ids == null) {
+            return Set.of();
+        }
+        Set<Long> set = new HashSet<>(ids);
+        if (set.contains(null)) {
+            throw new IllegalArgumentException(kind + " IDs must not be null");
+        }
+        return set;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
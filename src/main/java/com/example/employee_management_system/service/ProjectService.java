@@ -1,11 +1,15 @@
 package com.example.employee_management_system.service;
 
+import com.example.employee_management_system.exception.ResourceNotFoundException;
 import com.example.employee_management_system.model.Project;
 import com.example.employee_management_system.repository.ProjectRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,21 +22,35 @@ public class ProjectService {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public Project findById(Long id) {
         return projectRepository.findById(id).orElse(null);
     }
 
     public Project save(Project project) {
         try {
-            return projectRepository.save(project);
+            Project saved = projectRepository.save(project);
+            eventPublisher.publishEvent(ResourceChangedEvent.saved(ResourceType.PROJECT, saved.getId()));
+            return saved;
+        } catch (OptimisticLockingFailureException e) {
+            // Reported as a conflict, not as a failed save
+            throw e;
         } catch (Exception e) {
             logger.error("Error saving project: {}", e.getMessage());
             throw new RuntimeException("Failed to save project", e);
         }
     }
 
+    @Transactional
     public void deleteById(Long id) {
+        // Checked first so that no change event or tombstone is recorded for a missing project
+        if (!projectRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Project not found with id: " + id);
+        }
         projectRepository.deleteById(id);
+        eventPublisher.publishEvent(ResourceChangedEvent.deleted(ResourceType.PROJECT, id));
     }
 
     public List<Project> findAll() {
@@ -0,0 +1,24 @@
+package com.example.employee_management_system.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Published by the services whenever rows of a resource are written. Listeners
+ * that must only see committed data use {@code @TransactionalEventListener}.
+ */
+public record ResourceChangedEvent(ResourceType type, Collection<Long> ids, boolean deleted) {
+
+    public static ResourceChangedEvent saved(ResourceType type, Long id) {
+        return new ResourceChangedEvent(type, Collections.singletonList(id), false);
+    }
+
+    public static ResourceChangedEvent saved(ResourceType type, Collection<Long> ids) {
+        return new ResourceChangedEvent(type, List.copyOf(ids), false);
+    }
+
+    public static ResourceChangedEvent deleted(ResourceType type, Long id) {
+        return new ResourceChangedEvent(type, Collections.singletonList(id), true);
+    }
+}
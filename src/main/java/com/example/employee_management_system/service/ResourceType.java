@@ -0,0 +1,7 @@
+package com.example.employee_management_system.service;
+
+public enum ResourceType {
+    EMPLOYEE,
+    DEPARTMENT,
+    PROJECT
+}
@@ -0,0 +1,129 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.exception.PreconditionFailedException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a change counter per resource table in the {@code resource_version}
+ * table and derives ETags from it, so conditional GETs are answered with one
+ * primary-key read instead of querying and serializing the data.
+ *
+ * Collection ETags are weak on purpose. The same counters stand for every
+ * encoding of a list (JSON, Smile, CBOR, gzipped or not), so they are not
+ * byte-exact, and Tomcat leaves any response with a strong ETag uncompressed.
+ * If-None-Match uses weak comparison, so they still produce 304s; only If-Match,
+ * which no list endpoint accepts, would need a strong one.
+ *
+ * A counter is bumped in the transaction that writes the table, just before it
+ * commits, so every application instance sees the change as soon as the data,
+ * and counters survive restarts. A reader always takes the counters before
+ * reading data, so an ETag can be older than the body it is sent with but
+ * never newer.
+ *
+ * Single entities instead get a strong ETag derived from their {@code @Version}
+ * column, which is what If-Match is checked against before an update.
+ */
+@Service
+public class ResourceVersionService {
+
+    private static final String SELECT = "SELECT resource_type, version FROM resource_version";
+    private static final String INCREMENT = "UPDATE resource_version SET version = version + 1 WHERE resource_type = ?";
+    private static final String INSERT = "INSERT INTO resource_version (resource_type, version) VALUES (?, 1)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Key of the types changed by the current transaction, bound while it runs
+    private final Object pendingKey = new Object();
+
+    // For data derived from several tables, the ETag combines the counters of all of them
+    public String etag(ResourceType... types) {
+        Map<ResourceType, Long> counters = new EnumMap<>(ResourceType.class);
+        jdbcTemplate.query(SELECT, row -> {
+            counters.put(ResourceType.valueOf(row.getString(1)), row.getLong(2));
+        });
+        StringBuilder names = new StringBuilder();
+        StringBuilder versions = new StringBuilder();
+        for (ResourceType type : types) {
+            names.append(type.name().toLowerCase()).append('-');
+            versions.append('-').append(counters.getOrDefault(type, 0L));
+        }
+        return "W/\"" + names + "v" + versions + "\"";
+    }
+
+    public String etag(ResourceType type, Long id, long version) {
+        return "\"" + type.name().toLowerCase() + "-" + id + "-v" + version + "\"";
+    }
+
+    /**
+     * Throws unless the If-Match header is absent, "*" or lists the given ETag.
+     * Weak ETags never match, as If-Match requires strong comparison.
+     */
+    public void checkIfMatch(String ifMatch, String etag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedException("Resource has changed; current ETag is " + etag);
+    }
+
+    /**
+     * Bumps each changed type once per transaction, right before the commit: the
+     * counter row is a hot spot, and its lock is only held from then on.
+     */
+    @EventListener
+    public void onResourceChanged(ResourceChangedEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(event.type());
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<ResourceType> pending = (Set<ResourceType>) TransactionSynchronizationManager.getResource(pendingKey);
+        if (pending == null) {
+            Set<ResourceType> types = EnumSet.noneOf(ResourceType.class);
+            TransactionSynchronizationManager.bindResource(pendingKey, types);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    types.forEach(ResourceVersionService.this::increment);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+                }
+            });
+            pending = types;
+        }
+        pending.add(event.type());
+    }
+
+    private void increment(ResourceType type) {
+        if (jdbcTemplate.update(INCREMENT, type.name()) > 0) {
+            return;
+        }
+        // First change of the table since the schema was created
+        try {
+            jdbcTemplate.update(INSERT, type.name());
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(INCREMENT, type.name());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.employee_management_system.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the loader,
+ * callers arriving while it runs wait for and share its result (or exception).
+ * With a positive TTL, results are also kept for that long after loading.
+ *
+ * Requests are counted in {@code ems.lookup.requests}, tagged with the lookup
+ * name and whether they were answered from the TTL cache ({@code hit}), by
+ * joining a running load ({@code coalesced}) or by loading ({@code load}).
+ */
+class SingleFlight<K, V> {
+
+    private static final int MAX_CACHED = 10_000;
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<K, V> cache;
+
+    // Bumped by invalidate; a load that started before it must not cache its (possibly stale) result
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter coalesced;
+    private final Counter loads;
+
+    SingleFlight(String name, Duration ttl, MeterRegistry meterRegistry) {
+        this.cache = ttl.isZero() || ttl.isNegative() ? null
+                : Caffeine.newBuilder().maximumSize(MAX_CACHED).expireAfterWrite(ttl).build();
+        this.hits = counter(meterRegistry, name, "hit");
+        this.coalesced = counter(meterRegistry, name, "coalesced");
+        this.loads = counter(meterRegistry, name, "load");
+    }
+
+    V get(K key, Function<K, V> loader) {
+        if (cache != null) {
+            V cached = cache.getIfPresent(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        loads.increment();
+        long startedAt = generation.get();
+        try {
+            V value = loader.apply(key);
+            if (cache != null && value != null && generation.get() == startedAt) {
+                cache.put(key, value);
+            }
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    void invalidate(K key) {
+        generation.incrementAndGet();
+        // Later callers start a fresh load instead of joining one that may predate the change
+        inFlight.remove(key);
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("ems.lookup.requests")
+                .description("By-ID lookups by how they were answered")
+                .tag("lookup", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.employee_management_system.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of a paged delta sync, encoded into an opaque token like {@link PageCursor}.
+ * Changes are returned in (time, feed, id) order, and {@code at}, {@code feed} and
+ * {@code id} are those of the last change returned. {@code watermark} is taken when
+ * the first page is read, and is handed out once the last page has been.
+ */
+record SyncCursor(Instant watermark, Instant at, int feed, long id) {
+
+    private static final String PREFIX = "sync:";
+
+    String encode() {
+        String value = PREFIX + watermark + "," + at + "," + feed + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SyncCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = value.startsWith(PREFIX) ? value.substring(PREFIX.length()).split(",") : new String[0];
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new SyncCursor(Instant.parse(parts[0]), Instant.parse(parts[1]),
+                    Integer.parseInt(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // NumberFormatException is an IllegalArgumentException as well
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.DepartmentDTO;
+import com.example.employee_management_system.DTO.ProjectDTO;
+import com.example.employee_management_system.DTO.SyncDTO;
+import com.example.employee_management_system.exception.WatermarkExpiredException;
+import com.example.employee_management_system.model.Tombstone;
+import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.repository.EmployeeChangeView;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.repository.NamedChangeView;
+import com.example.employee_management_system.repository.ProjectRepository;
+import com.example.employee_management_system.repository.TombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Delta sync for mirrors of the employee directory.
+ *
+ * Entities carry an {@code updated_at} timestamp and deletions leave a
+ * {@link Tombstone}, so a client holding a watermark only reads what changed
+ * after it. Timestamps are taken when a transaction writes, not when it commits,
+ * so the returned watermark trails the current time by a lag window; anything
+ * committed within that window is returned again on the next call, and clients
+ * apply changes idempotently. A response holds at most a limited number of
+ * changes; while more remain it carries a cursor to the next page instead of the
+ * watermark. Watermarks older than the tombstone retention are
+ * rejected, since deletions before it are no longer known; such clients reload
+ * through the export and list endpoints.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    public static final int DEFAULT_LIMIT = 1000;
+    public static final int MAX_LIMIT = 10_000;
+
+    // Feeds of changes, in the order they are returned for equal timestamps
+    private static final int EMPLOYEES = 0;
+    private static final int DEPARTMENTS = 1;
+    private static final int PROJECTS = 2;
+    private static final int DELETIONS = 3;
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncService.class);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    // Upper bound for how long a writing transaction may stay open
+    @Value("${ems.sync.lag:PT10S}")
+    private Duration lag;
+
+    @Value("${ems.sync.tombstone-retention:P30D}")
+    private Duration tombstoneRetention;
+
+    // A written or deleted row, in the order changes are returned
+    private record Change(Instant at, int feed, long id, Consumer<SyncDTO> addTo) {}
+
+    /**
+     * Watermark to start syncing from after reading a full snapshot that begins now.
+     */
+    public Instant currentWatermark() {
+        return Instant.now().minus(lag);
+    }
+
+    public SyncDTO changesSince(Instant since, int limit) {
+        if (since == null) {
+            throw new IllegalArgumentException("since must not be null");
+        }
+        // Taken before reading, so nothing written from here on can be missed
+        return changes(new SyncCursor(currentWatermark(), since, -1, 0), limit);
+    }
+
+    // The next page of a sync begun by changesSince
+    public SyncDTO changesAfter(String cursor, int limit) {
+        return changes(SyncCursor.decode(cursor), limit);
+    }
+
+    /**
+     * Reads up to {@code limit} changes after the cursor position. Each feed is asked for
+     * one row more than the limit, so the merged first {@code limit} rows are exact and
+     * any row left over means another page exists. Ties on the timestamp are broken by
+     * feed and ID, so a page boundary never repeats or skips rows written together.
+     *
+     * The final page carries the watermark taken for the first one: anything written
+     * while the pages were read, but committed behind the cursor, is newer than that.
+     */
+    private SyncDTO changes(SyncCursor cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (cursor.at().isBefore(Instant.now().minus(tombstoneRetention))) {
+            throw new WatermarkExpiredException("Watermark " + cursor.at() + " is older than the tombstone retention of "
+                    + tombstoneRetention + "; reload the full data set and sync from its watermark");
+        }
+        Instant at = cursor.at();
+        Limit rows = Limit.of(limit + 1);
+        List<Change> changes = new ArrayList<>();
+        for (EmployeeChangeView view : employeeRepository.findViewsChangedAfter(at, afterId(cursor, EMPLOYEES), rows)) {
+            changes.add(new Change(view.getUpdatedAt(), EMPLOYEES, view.getId(),
+                    sync -> sync.getEmployees().add(DirectoryQueryService.toDTO(view))));
+        }
+        for (NamedChangeView view : departmentRepository.findViewsChangedAfter(at, afterId(cursor, DEPARTMENTS), rows)) {
+            changes.add(new Change(view.getUpdatedAt(), DEPARTMENTS, view.getId(), sync -> sync.getDepartments()
+                    .add(new DepartmentDTO(view.getId(), view.getName(), view.getVersion()))));
+        }
+        for (NamedChangeView view : projectRepository.findViewsChangedAfter(at, afterId(cursor, PROJECTS), rows)) {
+            changes.add(new Change(view.getUpdatedAt(), PROJECTS, view.getId(), sync -> sync.getProjects()
+                    .add(new ProjectDTO(view.getId(), view.getName(), view.getVersion()))));
+        }
+        for (Tombstone tombstone : tombstoneRepository.findDeletedAfter(at, afterId(cursor, DELETIONS), rows)) {
+            changes.add(new Change(tombstone.getDeletedAt(), DELETIONS, tombstone.getId(),
+                    sync -> deletedIds(sync, tombstone.getResourceType()).add(tombstone.getResourceId())));
+        }
+        changes.sort(Comparator.comparing(Change::at).thenComparingInt(Change::feed).thenComparingLong(Change::id));
+
+        SyncDTO sync = new SyncDTO();
+        sync.setEmployees(new ArrayList<>());
+        sync.setDepartments(new ArrayList<>());
+        sync.setProjects(new ArrayList<>());
+        sync.setDeletedEmployeeIds(new ArrayList<>());
+        sync.setDeletedDepartmentIds(new ArrayList<>());
+        sync.setDeletedProjectIds(new ArrayList<>());
+        List<Change> page = changes.size() > limit ? changes.subList(0, limit) : changes;
+        page.forEach(change -> change.addTo().accept(sync));
+        if (changes.size() > limit) {
+            Change last = page.get(limit - 1);
+            sync.setNextCursor(new SyncCursor(cursor.watermark(), last.at(), last.feed(), last.id()).encode());
+        } else {
+            sync.setWatermark(cursor.watermark());
+        }
+        return sync;
+    }
+
+    // Feeds before the cursor's are done with its timestamp, the cursor's own continues after its ID
+    private static long afterId(SyncCursor cursor, int feed) {
+        return feed < cursor.feed() ? Long.MAX_VALUE : feed == cursor.feed() ? cursor.id() : 0;
+    }
+
+    private static List<Long> deletedIds(SyncDTO sync, ResourceType type) {
+        return switch (type) {
+            case EMPLOYEE -> sync.getDeletedEmployeeIds();
+            case DEPARTMENT -> sync.getDeletedDepartmentIds();
+            case PROJECT -> sync.getDeletedProjectIds();
+        };
+    }
+
+    // Runs in the deleting transaction, so the tombstone commits or rolls back with the delete
+    @EventListener(condition = "#event.deleted()")
+    @Transactional
+    public void recordDeletion(ResourceChangedEvent event) {
+        Instant now = Instant.now();
+        tombstoneRepository.saveAll(event.ids().stream()
+                .map(id -> new Tombstone(event.type(), id, now))
+                .toList());
+    }
+
+    @Scheduled(fixedDelayString = "${ems.sync.tombstone-purge-interval:PT1H}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteOlderThan(Instant.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            logger.info("Purged {} tombstones older than {}", purged, tombstoneRetention);
+        }
+    }
+}
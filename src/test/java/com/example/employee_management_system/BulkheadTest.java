@@ -0,0 +1,73 @@
+package com.example.employee_management_system;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    @Test
+    void testCallersBeyondTheQueueAreTurnedAway() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(1, 1, Duration.ofSeconds(5));
+        assertTrue(bulkhead.tryEnter());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> waiting = executor.submit(bulkhead::tryEnter);
+            while (bulkhead.getQueued() == 0) {
+                Thread.sleep(5);
+            }
+
+            // Slot taken and queue full: rejected without waiting
+            long start = System.nanoTime();
+            assertFalse(bulkhead.tryEnter());
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+
+            // The queued caller gets the slot once it is free
+            bulkhead.exit();
+            assertTrue(waiting.get(5, TimeUnit.SECONDS));
+            assertEquals(1, bulkhead.getActive());
+            assertEquals(0, bulkhead.getQueued());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testQueuedCallerGivesUpAfterMaxWait() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(1, 5, Duration.ofMillis(50));
+        assertTrue(bulkhead.tryEnter());
+
+        assertFalse(bulkhead.tryEnter());
+        assertEquals(0, bulkhead.getQueued());
+
+        bulkhead.exit();
+        assertEquals(0, bulkhead.getActive());
+    }
+
+    @Test
+    void testTokenBucketRefillsAtTheConfiguredRate() {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        TokenBucket bucket = new TokenBucket(2, 3, 0);
+
+        // The burst is available at once, then one token every half second
+        assertEquals(0, bucket.tryTake(0));
+        assertEquals(0, bucket.tryTake(0));
+        assertEquals(0, bucket.tryTake(0));
+        assertEquals(second / 2, bucket.tryTake(0));
+        assertEquals(0, bucket.tryTake(second / 2));
+
+        // Idle time never fills the bucket beyond the burst
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryTake(10 * second));
+        }
+        assertTrue(bucket.tryTake(10 * second) > 0);
+    }
+}
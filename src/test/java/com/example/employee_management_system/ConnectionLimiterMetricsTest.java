@@ -0,0 +1,48 @@
+package com.example.employee_management_system;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The limiter only wraps a Hikari pool, so keep it (pointed at H2) instead of the test database replacement
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureObservability
+class ConnectionLimiterMetricsTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testLimiterGaugesTrackHeldPermits() throws Exception {
+        assertTrue(dataSource.isWrapperFor(ConnectionLimitingDataSource.class));
+        assertEquals(4, available());
+        assertEquals(0, meterRegistry.get("ems.datasource.limiter.waiting").gauge().value());
+
+        try (Connection ignored = dataSource.getConnection()) {
+            assertEquals(3, available());
+        }
+        assertEquals(4, available());
+    }
+
+    private double available() {
+        return meterRegistry.get("ems.datasource.limiter.available").gauge().value();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.EmployeeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testUnchangedDepartmentsAreNotQueriedAgain() throws Exception {
+        Department department = departmentService.save(new Department("Legal"));
+
+        String etag = mockMvc.perform(get("/api/departments"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // Weak, so the list can still be compressed
+        assertTrue(etag.startsWith("W/\""));
+
+        // A matching If-None-Match is answered from the version counters, without loading departments
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/departments").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        // Any committed write to the table changes the ETag
+        department.setName("Legal & Compliance");
+        departmentService.save(department);
+        String newEtag = mockMvc.perform(get("/api/departments").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+
+        departmentService.deleteById(department.getId());
+    }
+
+    @Test
+    void testUnchangedEmployeeIsAnsweredFromItsVersion() throws Exception {
+        Department department = departmentService.save(new Department("Audit"));
+        Employee employee = employeeService.save(new Employee("Alice", "Auditor", department));
+
+        String etag = mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // Strong, as If-Match needs
+        assertTrue(etag.startsWith("\""));
+
+        // A matching If-None-Match reads the version column and nothing else
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertEquals(List.of("SELECT e.version FROM Employee e WHERE e.id = :id"),
+                List.of(statistics.getQueries()));
+
+        // A stale copy gets the employee with the new ETag
+        employee.setPosition("Lead Auditor");
+        employeeService.save(employee);
+        String newEtag = mockMvc.perform(get("/api/employees/{id}", employee.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.position").value("Lead Auditor"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+
+        employeeService.deleteById(employee.getId());
+        departmentService.deleteById(department.getId());
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.ProjectService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class ConditionalUpdateTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Test
+    void testUpdateWithStaleETagIsRejected() throws Exception {
+        Department department = departmentService.save(new Department("Finance"));
+
+        String etag = mockMvc.perform(get("/api/departments/{id}", department.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String newEtag = mockMvc.perform(put("/api/departments/{id}", department.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Finance & Controlling\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+
+        // A second editor still holding the first ETag loses
+        mockMvc.perform(put("/api/departments/{id}", department.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Controlling\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/api/departments/{id}", department.getId()))
+                .andExpect(jsonPath("$.name").value("Finance & Controlling"));
+
+        departmentService.deleteById(department.getId());
+    }
+
+    @Test
+    void testProjectUpdateHonoursIfMatch() throws Exception {
+        Project project = projectService.save(new Project("Apollo"));
+
+        String etag = mockMvc.perform(get("/api/projects/{id}", project.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(put("/api/projects/{id}", project.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"project-" + project.getId() + "-v99\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Gemini\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/projects/{id}", project.getId())
+                        .header(HttpHeaders.IF_MATCH, "W/\"x\", " + etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Artemis\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Artemis"))
+                .andExpect(jsonPath("$.version").value(1));
+
+        projectService.deleteById(project.getId());
+    }
+
+    @Test
+    void testConcurrentWriteIsDetectedWithoutLocks() {
+        Department department = departmentService.save(new Department("Legal"));
+        Department first = departmentService.findById(department.getId());
+        Department second = departmentService.findById(department.getId());
+
+        first.setName("Legal A");
+        departmentService.save(first);
+        second.setName("Legal B");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> departmentService.save(second));
+
+        departmentService.deleteById(department.getId());
+    }
+}
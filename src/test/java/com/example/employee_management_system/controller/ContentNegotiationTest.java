@@ -0,0 +1,111 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.service.ProjectService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Runs on a real port as well, because compression is applied by the embedded server
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class ContentNegotiationTest {
+
+    private static final String SMILE = "application/x-jackson-smile";
+    private static final String CBOR = "application/cbor";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Test
+    void testProjectsAreServedAsSmile() throws Exception {
+        Project project = projectService.save(new Project("Orion"));
+
+        byte[] body = mockMvc.perform(get("/api/projects/{id}", project.getId()).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode decoded = new ObjectMapper(new SmileFactory()).readTree(body);
+        assertEquals("Orion", decoded.get("name").asText());
+
+        projectService.deleteById(project.getId());
+    }
+
+    @Test
+    void testProjectsAreCreatedFromCbor() throws Exception {
+        ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+        byte[] body = mockMvc.perform(post("/api/projects")
+                        .contentType(CBOR)
+                        .accept(CBOR)
+                        .content(cbor.writeValueAsBytes(Map.of("name", "Vega"))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode decoded = cbor.readTree(body);
+        assertEquals("Vega", decoded.get("name").asText());
+
+        projectService.deleteById(decoded.get("id").asLong());
+    }
+
+    @Test
+    void testJsonRemainsTheDefault() throws Exception {
+        mockMvc.perform(get("/api/projects"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"));
+    }
+
+    @Test
+    void testLargeResponsesAreGzipped() throws Exception {
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            projects.add(projectService.save(new Project("Compressible project " + i)));
+        }
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/projects"))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            JsonNode decoded = new ObjectMapper().readTree(in);
+            assertTrue(decoded.size() >= projects.size());
+        }
+
+        projects.forEach(project -> projectService.deleteById(project.getId()));
+    }
+}
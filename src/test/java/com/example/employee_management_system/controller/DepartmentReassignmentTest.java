@@ -0,0 +1,126 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.EmployeeService;
+import com.example.employee_management_system.service.HeadcountService;
+import com.example.employee_management_system.service.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class DepartmentReassignmentTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private HeadcountService headcountService;
+
+    private Department sales;
+    private Department marketing;
+    private Project launch;
+    private Employee ann;
+    private Employee ben;
+
+    @BeforeEach
+    void setUp() {
+        sales = departmentService.save(new Department("Sales"));
+        marketing = departmentService.save(new Department("Marketing"));
+        launch = projectService.save(new Project("Launch"));
+        ann = employeeService.save(new Employee("Ann", "Seller", sales, List.of(launch)));
+        ben = employeeService.save(new Employee("Ben", "Seller", sales, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeService.deleteById(ann.getId());
+        employeeService.deleteById(ben.getId());
+        projectService.deleteById(launch.getId());
+        if (departmentService.findById(sales.getId()) != null) {
+            departmentService.deleteById(sales.getId());
+        }
+        departmentService.deleteById(marketing.getId());
+    }
+
+    @Test
+    void testReassignMovesAllEmployees() throws Exception {
+        String etag = mockMvc.perform(get("/api/employees/{id}", ann.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/api/departments/{id}/reassign", sales.getId())
+                        .param("to", marketing.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moved").value(2));
+
+        String newEtag = mockMvc.perform(get("/api/employees/{id}", ann.getId()))
+                .andExpect(jsonPath("$.departmentId").value(marketing.getId()))
+                .andExpect(jsonPath("$.projectIds[0]").value(launch.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+        assertEquals(0, headcountService.departmentHeadcount(sales.getId()));
+        assertEquals(2, headcountService.departmentHeadcount(marketing.getId()));
+        assertEquals(1, headcountService.projectHeadcount(launch.getId()));
+    }
+
+    @Test
+    void testReassignRejectsInvalidTargets() throws Exception {
+        mockMvc.perform(post("/api/departments/{id}/reassign", sales.getId())
+                        .param("to", sales.getId().toString()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/departments/{id}/reassign", sales.getId()).param("to", "-1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testDeleteMissingDepartmentIsNotFound() throws Exception {
+        mockMvc.perform(delete("/api/departments/{id}", -1))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testDeleteReassignsEmployeesFirst() throws Exception {
+        // Fixed message; the constraint details stay in the server log
+        mockMvc.perform(delete("/api/departments/{id}", sales.getId()))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("The change conflicts with related data"));
+
+        mockMvc.perform(delete("/api/departments/{id}", sales.getId())
+                        .param("reassignTo", marketing.getId().toString()))
+                .andExpect(status().isOk());
+
+        assertNull(departmentService.findById(sales.getId()));
+        mockMvc.perform(get("/api/employees/{id}", ben.getId()))
+                .andExpect(jsonPath("$.departmentId").value(marketing.getId()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.repository.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the fetch plans of the employee read endpoints: the number of SQL
+ * statements per request must not grow with the number of employees returned.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class EmployeeControllerQueryCountTest {
+
+    private static final int EMPLOYEES = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Statistics statistics;
+    private Department firstDepartment;
+    private Long firstEmployeeId;
+
+    @BeforeEach
+    void setUp() {
+        // Spreading employees over several departments and projects, so that
+        // lazy loading would show up as one extra query per department/employee
+        List<Department> departments = new ArrayList<>();
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            departments.add(departmentRepository.save(new Department("Department " + i)));
+            projects.add(projectRepository.save(new Project("Project " + i)));
+        }
+        firstDepartment = departments.get(0);
+
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(new Employee("Employee " + i, "Engineer", departments.get(i % 5),
+                    List.of(projects.get(i % 5), projects.get((i + 1) % 5))));
+        }
+        firstEmployeeId = employeeRepository.saveAll(employees).get(0).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+        projectRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void testListEmployeesUsesBoundedQueries() throws Exception {
+        mockMvc.perform(get("/api/employees").param("limit", String.valueOf(EMPLOYEES)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(EMPLOYEES))
+                .andExpect(jsonPath("$.items[0].projectIds.length()").value(2));
+
+        // One projection query with project IDs aggregated in SQL
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testListEmployeesByDepartmentUsesBoundedQueries() throws Exception {
+        mockMvc.perform(get("/api/employees").param("departmentId", firstDepartment.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(EMPLOYEES / 5));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetEmployeeByIdUsesSingleQuery() throws Exception {
+        mockMvc.perform(get("/api/employees/{id}", firstEmployeeId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.departmentId").value(firstDepartment.getId()))
+                .andExpect(jsonPath("$.projectIds.length()").value(2));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testExportStreamsEveryEmployeeFromOneQuery() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // One JSON object per line, every line newline-terminated
+        String[] lines = body.split("\n");
+        assertEquals(EMPLOYEES, lines.length);
+        assertTrue(body.endsWith("\n"));
+        assertTrue(lines[0].contains("\"id\":" + firstEmployeeId));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
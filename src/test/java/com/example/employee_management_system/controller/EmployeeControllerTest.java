@@ -6,8 +6,15 @@ import com.example.employee_management_system.model.Department;
 import com.example.employee_management_system.model.Employee;
 import com.example.employee_management_system.model.Project;
 import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.DirectoryQueryService;
+import com.example.employee_management_system.service.EmployeeBatchService;
+import com.example.employee_management_system.service.EmployeeImportService;
+import com.example.employee_management_system.service.EmployeeSearchService;
 import com.example.employee_management_system.service.EmployeeService;
+import com.example.employee_management_system.service.ProjectAssignmentService;
 import com.example.employee_management_system.service.ProjectService;
+import com.example.employee_management_system.service.ResourceVersionService;
+import com.example.employee_management_system.service.SyncService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,6 +50,27 @@ public class EmployeeControllerTest {
     @MockBean
     private ProjectService projectService;
 
+    @MockBean
+    private DirectoryQueryService directoryQueryService;
+
+    @MockBean
+    private EmployeeBatchService employeeBatchService;
+
+    @MockBean
+    private EmployeeImportService employeeImportService;
+
+    @MockBean
+    private EmployeeSearchService employeeSearchService;
+
+    @MockBean
+    private ProjectAssignmentService projectAssignmentService;
+
+    @MockBean
+    private ResourceVersionService resourceVersionService;
+
+    @MockBean
+    private SyncService syncService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -70,9 +98,8 @@ public class EmployeeControllerTest {
         employee.setDepartment(new Department());
         employee.setProjects(List.of(new Project()));
 
-        when(employeeService.save(any(Employee.class))).thenReturn(employee);
+        when(employeeService.save(any(Employee.class), any())).thenReturn(employee);
         when(departmentService.findById(anyLong())).thenReturn(new Department());
-        when(projectService.findAllById(anyList())).thenReturn(List.of(new Project()));
 
         mockMvc.perform(post("/api/employees")
                         .contentType(MediaType.APPLICATION_JSON)
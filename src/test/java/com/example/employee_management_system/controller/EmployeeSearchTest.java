@@ -0,0 +1,76 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.EmployeeSearchService;
+import com.example.employee_management_system.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class EmployeeSearchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeSearchService employeeSearchService;
+
+    @BeforeEach
+    void awaitIndex() throws InterruptedException {
+        // The index is built asynchronously once the application is ready
+        for (int i = 0; i < 100 && !employeeSearchService.isReady(); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(employeeSearchService.isReady());
+    }
+
+    @Test
+    void testSearchFollowsSavesAndDeletes() throws Exception {
+        Department department = departmentService.save(new Department("Search"));
+        Employee employee = employeeService.save(new Employee("Zelda Quinterro", "Payroll Specialist", department, List.of()));
+
+        mockMvc.perform(get("/api/employees/search").param("q", "quint pay"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(employee.getId()))
+                .andExpect(jsonPath("$[0].name").value("Zelda Quinterro"));
+
+        employee.setName("Zelda Quint");
+        employeeService.save(employee);
+        mockMvc.perform(get("/api/employees/search").param("q", "quinterro"))
+                .andExpect(jsonPath("$.length()").value(0));
+
+        employeeService.deleteById(employee.getId());
+        mockMvc.perform(get("/api/employees/search").param("q", "zelda"))
+                .andExpect(jsonPath("$.length()").value(0));
+        departmentService.deleteById(department.getId());
+    }
+
+    @Test
+    void testEmptyQueryIsRejected() throws Exception {
+        mockMvc.perform(get("/api/employees/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+}
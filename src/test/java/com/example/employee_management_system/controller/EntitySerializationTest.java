@@ -0,0 +1,96 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.EmployeeService;
+import com.example.employee_management_system.service.ProjectService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class EntitySerializationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Test
+    void testApplicationMapperUsesBlackbird() {
+        assertTrue(objectMapper.getRegisteredModuleIds().contains(new BlackbirdModule().getTypeId()));
+    }
+
+    @Test
+    void testEmployeeUpdateSerializesAssociationsWithoutInverseSides() throws Exception {
+        Department department = departmentService.save(new Department("Research"));
+        Project project = projectService.save(new Project("Hermes"));
+        Employee employee = employeeService.save(new Employee("Ada", "Engineer", department, List.of()));
+
+        mockMvc.perform(put("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Ada\",\"position\":\"Lead\","
+                                + "\"department\":{\"id\":" + department.getId() + "},"
+                                + "\"projects\":[{\"id\":" + project.getId() + "}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.position").value("Lead"))
+                .andExpect(jsonPath("$.department.name").value("Research"))
+                .andExpect(jsonPath("$.department.employees").doesNotExist())
+                .andExpect(jsonPath("$.projects[0].name").value("Hermes"))
+                .andExpect(jsonPath("$.projects[0].employees").doesNotExist());
+
+        employeeService.deleteById(employee.getId());
+        projectService.deleteById(project.getId());
+        departmentService.deleteById(department.getId());
+    }
+
+    @Test
+    void testSummaryViewOmitsInverseCollections() throws Exception {
+        String body = mockMvc.perform(post("/api/projects")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Icarus\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Icarus"))
+                .andExpect(jsonPath("$.employees").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        projectService.deleteById(objectMapper.readTree(body).get("id").asLong());
+    }
+
+    @Test
+    void testToStringDoesNotTouchAssociations() {
+        Department department = new Department("Research");
+        department.setId(7L);
+        Employee employee = new Employee("Ada", "Engineer", department, null);
+
+        assertEquals("Employee{id=null, name='Ada', position='Engineer', departmentId=7}", employee.toString());
+    }
+}
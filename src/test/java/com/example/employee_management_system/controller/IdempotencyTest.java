@@ -0,0 +1,160 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.IdempotencyFilter;
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.service.IdempotencyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class IdempotencyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Test
+    void testRetryIsReplayedInsteadOfExecuted() throws Exception {
+        MockHttpServletResponse first = createProject("retry-1", "Hermes")
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        MockHttpServletResponse retry = createProject("retry-1", "Hermes")
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn().getResponse();
+
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals(1, countProjects("Hermes"));
+    }
+
+    @Test
+    void testReplayRestoresResponseHeaders() throws Exception {
+        Department department = new Department();
+        department.setName("Idempotency");
+        department = departmentRepository.save(department);
+        String body = "{\"name\":\"Iris\",\"position\":\"Engineer\",\"departmentId\":" + department.getId()
+                + ",\"projectIds\":[]}";
+
+        MockHttpServletResponse first = mockMvc.perform(post("/api/employees")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "headers-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse();
+        assertNotNull(first.getHeader(HttpHeaders.LOCATION));
+        assertNotNull(first.getHeader(HttpHeaders.ETAG));
+
+        mockMvc.perform(post("/api/employees")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "headers-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(header().string(HttpHeaders.LOCATION, first.getHeader(HttpHeaders.LOCATION)))
+                .andExpect(header().string(HttpHeaders.ETAG, first.getHeader(HttpHeaders.ETAG)));
+
+        // Stored with the response, so other instances replay them too
+        String stored = jdbcTemplate.queryForObject(
+                "SELECT response_headers FROM idempotency_record WHERE response_status = 201", String.class);
+        assertTrue(stored.contains(HttpHeaders.ETAG + ": " + first.getHeader(HttpHeaders.ETAG)));
+    }
+
+    @Test
+    void testOversizedBodyIsRejectedBeforeExecuting() throws Exception {
+        createProject("oversized-1", "X".repeat(1024 * 1024)).andExpect(status().isPayloadTooLarge());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project WHERE LENGTH(name) > 255",
+                Integer.class));
+    }
+
+    @Test
+    void testKeyReusedForDifferentRequestIsRejected() throws Exception {
+        createProject("reused-1", "Athena").andExpect(status().isOk());
+        createProject("reused-1", "Zeus").andExpect(status().isUnprocessableEntity());
+        assertEquals(0, countProjects("Zeus"));
+    }
+
+    @Test
+    void testConcurrentDuplicatesExecuteOnce() throws Exception {
+        int clients = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < clients; i++) {
+                Callable<MockHttpServletResponse> call = () -> {
+                    start.await();
+                    return createProject("concurrent-1", "Hydra").andReturn().getResponse();
+                };
+                responses.add(executor.submit(call));
+            }
+            start.countDown();
+            String body = null;
+            for (Future<MockHttpServletResponse> response : responses) {
+                assertEquals(200, response.get().getStatus());
+                body = body == null ? response.get().getContentAsString() : body;
+                assertEquals(body, response.get().getContentAsString());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, countProjects("Hydra"));
+    }
+
+    @Test
+    void testKeyHeldByAnotherInstanceIsReportedInProgressUntilTheLeaseEnds() {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.update("INSERT INTO idempotency_record (record_key, fingerprint, created_at, expires_at)"
+                + " VALUES ('held', 'f', ?, ?)", now, now + 60_000);
+        assertEquals(IdempotencyService.Claim.Status.IN_PROGRESS, idempotencyService.claim("held", "f").status());
+
+        // A pending row older than the lease belongs to an instance that died
+        jdbcTemplate.update("UPDATE idempotency_record SET created_at = ? WHERE record_key = 'held'", now - 120_000);
+        assertEquals(IdempotencyService.Claim.Status.ACQUIRED, idempotencyService.claim("held", "f").status());
+        idempotencyService.release("held");
+    }
+
+    private ResultActions createProject(String key, String name)
+            throws Exception {
+        return mockMvc.perform(post("/api/projects")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"" + name + "\"}"));
+    }
+
+    private int countProjects(String name) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project WHERE name = ?", Integer.class, name);
+    }
+}
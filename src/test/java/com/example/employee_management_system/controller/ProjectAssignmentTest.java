@@ -0,0 +1,260 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.EmployeeService;
+import com.example.employee_management_system.service.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class ProjectAssignmentTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    private Department department;
+    private Project apollo;
+    private Project gemini;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentService.save(new Department("Flight"));
+        apollo = projectService.save(new Project("Apollo"));
+        gemini = projectService.save(new Project("Gemini"));
+        employee = employeeService.save(new Employee("Neil", "Pilot", department, List.of(apollo)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeService.deleteById(employee.getId());
+        projectService.deleteById(apollo.getId());
+        projectService.deleteById(gemini.getId());
+        departmentService.deleteById(department.getId());
+    }
+
+    @Test
+    void testPatchAddsAndRemovesProjects() throws Exception {
+        String etag = mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String newEtag = mockMvc.perform(patch("/api/employees/{id}/projects", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"add\":[" + gemini.getId() + "],\"remove\":[" + apollo.getId() + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectIds", containsInAnyOrder(gemini.getId().intValue())))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(jsonPath("$.projectIds", containsInAnyOrder(gemini.getId().intValue())));
+    }
+
+    @Test
+    void testPutWritesOnlyChangedJoinRows() throws Exception {
+        Project mercury = projectService.save(new Project("Mercury"));
+        Project skylab = projectService.save(new Project("Skylab"));
+        Project soyuz = projectService.save(new Project("Soyuz"));
+        mockMvc.perform(post("/api/employees/{id}/projects", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + apollo.getId() + "," + gemini.getId() + "," + mercury.getId() + "]"))
+                .andExpect(status().isOk());
+
+        // Swapping Mercury for Skylab: one row deleted and one inserted, instead of rewriting all three
+        JoinTableWrites.rows.set(0);
+        mockMvc.perform(put("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Neil\",\"position\":\"Commander\",\"department\":{\"id\":"
+                                + department.getId() + "},\"projects\":[{\"id\":" + apollo.getId() + "},{\"id\":"
+                                + gemini.getId() + "},{\"id\":" + skylab.getId() + "}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.position").value("Commander"))
+                .andExpect(jsonPath("$.projects", hasSize(3)));
+        assertEquals(2, JoinTableWrites.rows.get());
+
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(jsonPath("$.projectIds", containsInAnyOrder(
+                        apollo.getId().intValue(), gemini.getId().intValue(), skylab.getId().intValue())));
+        mockMvc.perform(put("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Neil\",\"position\":\"Pilot\",\"department\":{\"id\":"
+                                + department.getId() + "},\"projects\":[{\"id\":-1}]}"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/employees/{id}/projects", employee.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + apollo.getId() + "]"));
+        for (Project project : List.of(mercury, skylab, soyuz)) {
+            projectService.deleteById(project.getId());
+        }
+    }
+
+    @Test
+    void testPatchTreatsNullAsEmpty() throws Exception {
+        mockMvc.perform(patch("/api/employees/{id}/projects", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"add\":null,\"remove\":[" + apollo.getId() + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectIds", hasSize(0)));
+        mockMvc.perform(patch("/api/employees/{id}/projects", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"add\":[" + gemini.getId() + "],\"remove\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectIds", containsInAnyOrder(gemini.getId().intValue())));
+    }
+
+    @Test
+    void testPatchRejectsUnknownProject() throws Exception {
+        mockMvc.perform(patch("/api/employees/{id}/projects", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"add\":[-1]}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(patch("/api/employees/{id}/projects", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"add\":[" + gemini.getId() + "],\"remove\":[" + gemini.getId() + "]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testPostReplacesProjects() throws Exception {
+        mockMvc.perform(post("/api/employees/{id}/projects", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + apollo.getId() + "," + gemini.getId() + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projects", hasSize(2)));
+    }
+
+    @Test
+    void testProjectMembersAreChangedInBulk() throws Exception {
+        mockMvc.perform(post("/api/projects/{id}/members:bulk", gemini.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"add\":[" + employee.getId() + "],\"remove\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.added").value(1))
+                .andExpect(jsonPath("$.employeesChanged").value(1));
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(jsonPath("$.projectIds", containsInAnyOrder(
+                        apollo.getId().intValue(), gemini.getId().intValue())));
+    }
+
+    @Test
+    void testStaffingAppliesChangesAcrossProjects() throws Exception {
+        mockMvc.perform(post("/api/projects/staffing")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"employeeId\":" + employee.getId() + ",\"projectId\":" + apollo.getId()
+                                + ",\"action\":\"remove\"},{\"employeeId\":" + employee.getId()
+                                + ",\"projectId\":" + gemini.getId() + ",\"action\":\"add\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.added").value(1))
+                .andExpect(jsonPath("$.removed").value(1));
+        mockMvc.perform(post("/api/projects/staffing")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"employeeId\":" + employee.getId() + ",\"projectId\":-1,\"action\":\"add\"}]"))
+                .andExpect(status().isNotFound());
+    }
+
+    // Counts the rows inserted into or deleted from employee_project, by JPA and JDBC alike
+    @TestConfiguration
+    static class JoinTableWrites {
+
+        static final AtomicInteger rows = new AtomicInteger();
+
+        @Bean
+        static BeanPostProcessor joinTableWriteCounter() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? counting(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource counting(DataSource target) {
+            return new DelegatingDataSource(target) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return proxy(Connection.class, super.getConnection(), (connection, method, args) -> {
+                        Object result = method.invoke(connection, args);
+                        if (method.getName().equals("prepareStatement") && isJoinTableWrite((String) args[0])) {
+                            return proxy(PreparedStatement.class, result, (statement, call, callArgs) -> {
+                                if (call.getName().equals("addBatch") || call.getName().startsWith("execute")
+                                        && !call.getName().equals("executeBatch")) {
+                                    rows.incrementAndGet();
+                                }
+                                return call.invoke(statement, callArgs);
+                            });
+                        }
+                        return result;
+                    });
+                }
+            };
+        }
+
+        private static boolean isJoinTableWrite(String sql) {
+            String normalized = sql.trim().toLowerCase(Locale.ROOT);
+            return normalized.contains("employee_project")
+                    && (normalized.startsWith("insert") || normalized.startsWith("delete"));
+        }
+
+        private interface Handler<T> {
+            Object invoke(T target, java.lang.reflect.Method method, Object[] args) throws Throwable;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, Object target, Handler<T> handler) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+                try {
+                    return handler.invoke((T) target, method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+}
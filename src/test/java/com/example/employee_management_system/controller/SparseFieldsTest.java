@@ -0,0 +1,116 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.EmployeeService;
+import com.example.employee_management_system.service.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class SparseFieldsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    private Department department;
+    private Project project;
+    private Employee first;
+    private Employee second;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentService.save(new Department("Logistics"));
+        project = projectService.save(new Project("Atlas"));
+        first = employeeService.save(new Employee("Ada", "Engineer", department, List.of(project)));
+        second = employeeService.save(new Employee("Grace", "Manager", department, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeService.deleteById(first.getId());
+        employeeService.deleteById(second.getId());
+        projectService.deleteById(project.getId());
+        departmentService.deleteById(department.getId());
+    }
+
+    @Test
+    void testEmployeePageReturnsOnlySelectedFields() throws Exception {
+        mockMvc.perform(get("/api/employees")
+                        .param("departmentId", department.getId().toString())
+                        .param("fields", "name,id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(first.getId()))
+                .andExpect(jsonPath("$.items[0].name").value("Ada"))
+                .andExpect(jsonPath("$.items[0].position").doesNotExist())
+                .andExpect(jsonPath("$.items[0].projectIds").doesNotExist())
+                .andExpect(jsonPath("$.items[1].name").value("Grace"));
+    }
+
+    @Test
+    void testProjectIdsAreAggregatedWhenSelected() throws Exception {
+        mockMvc.perform(get("/api/employees")
+                        .param("departmentId", department.getId().toString())
+                        .param("fields", "projectIds"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").doesNotExist())
+                .andExpect(jsonPath("$.items[0].projectIds", contains(project.getId().intValue())))
+                .andExpect(jsonPath("$.items[1].projectIds").isEmpty());
+    }
+
+    @Test
+    void testCursorWorksWithoutSelectingId() throws Exception {
+        mockMvc.perform(get("/api/employees")
+                        .param("departmentId", department.getId().toString())
+                        .param("limit", "1")
+                        .param("fields", "position"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].position").value("Engineer"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    void testDepartmentsAndProjectsReturnOnlySelectedFields() throws Exception {
+        mockMvc.perform(get("/api/departments").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == 'Logistics')]").exists())
+                .andExpect(jsonPath("$[0].id").doesNotExist());
+        mockMvc.perform(get("/api/projects").param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == " + project.getId() + ")]").exists())
+                .andExpect(jsonPath("$[0].name").doesNotExist());
+    }
+
+    @Test
+    void testUnknownFieldIsRejected() throws Exception {
+        mockMvc.perform(get("/api/employees").param("fields", "id,salary"))
+                .andExpect(status().isBadRequest());
+    }
+}
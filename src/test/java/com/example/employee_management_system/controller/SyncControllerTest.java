@@ -0,0 +1,158 @@
+package com.example.employee_management_system.controller;
+
+import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.service.DepartmentService;
+import com.example.employee_management_system.service.EmployeeBatchService;
+import com.example.employee_management_system.service.EmployeeService;
+import com.example.employee_management_system.service.ProjectService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class SyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Test
+    void testOnlyChangesSinceTheWatermarkAreReturned() throws Exception {
+        Department department = departmentService.save(new Department("Sync"));
+        Project project = projectService.save(new Project("Mirror"));
+        Employee unchanged = employeeService.save(new Employee("Alice", "Manager", department));
+        Employee removed = employeeService.save(new Employee("Jason", "Developer", department));
+        Employee assigned = employeeService.save(new Employee("Carren", "Developer", department));
+
+        Instant since = Instant.now();
+        Thread.sleep(5);
+
+        // Only the project list changes; the owning employee row still counts as updated
+        assigned.setProjects(new ArrayList<>(List.of(project)));
+        employeeService.save(assigned);
+        employeeService.deleteById(removed.getId());
+        EmployeeDTO batch = new EmployeeDTO();
+        batch.setName("Stacy");
+        batch.setPosition("Analyst");
+        batch.setDepartmentId(department.getId());
+        batch.setProjectIds(List.of());
+        Long batchId = employeeBatchService.createAll(List.of(batch)).getResults().get(0).getEmployee().getId();
+
+        mockMvc.perform(get("/api/sync").param("since", since.toString()).with(httpBasic("user", "user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.watermark", notNullValue()))
+                .andExpect(jsonPath("$.employees[*].id",
+                        containsInAnyOrder(assigned.getId().intValue(), batchId.intValue())))
+                .andExpect(jsonPath("$.employees[?(@.id == %d)].projectIds[0]", assigned.getId())
+                        .value(project.getId().intValue()))
+                .andExpect(jsonPath("$.deletedEmployeeIds", contains(removed.getId().intValue())))
+                .andExpect(jsonPath("$.departments", empty()))
+                .andExpect(jsonPath("$.projects", empty()));
+
+        // Nothing has changed since now
+        mockMvc.perform(get("/api/sync").param("since", Instant.now().toString()).with(httpBasic("user", "user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", empty()))
+                .andExpect(jsonPath("$.deletedEmployeeIds", empty()));
+
+        employeeService.deleteById(unchanged.getId());
+        employeeService.deleteById(assigned.getId());
+        employeeService.deleteById(batchId);
+    }
+
+    @Test
+    void testChangesArePagedWithACursor() throws Exception {
+        Department department = departmentService.save(new Department("Paged"));
+        Instant since = Instant.now();
+        Thread.sleep(5);
+
+        // One batch writes every row with the same timestamp, so pages must split ties
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (String name : List.of("Ann", "Ben", "Cid")) {
+            EmployeeDTO employee = new EmployeeDTO();
+            employee.setName(name);
+            employee.setPosition("Analyst");
+            employee.setDepartmentId(department.getId());
+            employee.setProjectIds(List.of());
+            employees.add(employee);
+        }
+        List<Long> ids = employeeBatchService.createAll(employees).getResults().stream()
+                .map(result -> result.getEmployee().getId())
+                .toList();
+        employeeService.deleteById(ids.get(0));
+
+        // Two remaining inserts and a deletion, one at a time
+        String first = mockMvc.perform(get("/api/sync").param("since", since.toString()).param("limit", "1")
+                        .with(httpBasic("user", "user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees[*].id", contains(ids.get(1).intValue())))
+                .andExpect(jsonPath("$.watermark").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        String second = mockMvc.perform(get("/api/sync").param("cursor", JsonPath.<String>read(first, "$.nextCursor"))
+                        .param("limit", "1").with(httpBasic("user", "user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees[*].id", contains(ids.get(2).intValue())))
+                .andExpect(jsonPath("$.deletedEmployeeIds", empty()))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/sync").param("cursor", JsonPath.<String>read(second, "$.nextCursor"))
+                        .param("limit", "1").with(httpBasic("user", "user")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", empty()))
+                .andExpect(jsonPath("$.deletedEmployeeIds", contains(ids.get(0).intValue())))
+                .andExpect(jsonPath("$.watermark", notNullValue()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/sync").param("cursor", "not-a-cursor").with(httpBasic("user", "user")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/sync").param("since", since.toString()).param("limit", "0")
+                        .with(httpBasic("user", "user")))
+                .andExpect(status().isBadRequest());
+
+        employeeService.deleteById(ids.get(1));
+        employeeService.deleteById(ids.get(2));
+        departmentService.deleteById(department.getId());
+    }
+
+    @Test
+    void testWatermarkOlderThanTombstoneRetentionIsRejected() throws Exception {
+        mockMvc.perform(get("/api/sync").param("since", Instant.now().minus(Duration.ofDays(365)).toString())
+                        .with(httpBasic("user", "user")))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    void testExportCarriesStartingWatermark() throws Exception {
+        mockMvc.perform(get("/api/employees/export"))
+                .andExpect(header().string(EmployeeController.SYNC_WATERMARK_HEADER, notNullValue()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.employee_management_system.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Limits low enough to reach, and refilled too slowly to recover while the test runs
+@SpringBootTest(properties = {
+        "ems.traffic.heavy.rate=0.01",
+        "ems.traffic.heavy.burst=2"
+})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class TrafficControlTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testHeavyRequestsAreLimitedPerClientAndRoute() throws Exception {
+        double limitedBefore = count("heavy", "rate_limited");
+
+        mockMvc.perform(get("/api/employees")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        // Other routes, light endpoints and other clients have limits of their own
+        mockMvc.perform(get("/api/projects/stats")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/departments")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees").with(httpBasic("user", "user"))).andExpect(status().isOk());
+
+        assertEquals(limitedBefore + 1, count("heavy", "rate_limited"));
+        assertTrue(count("light", "admitted") >= 1);
+    }
+
+    private double count(String group, String outcome) {
+        return meterRegistry.get("ems.traffic.requests").tag("group", group).tag("outcome", outcome)
+                .counter().count();
+    }
+}
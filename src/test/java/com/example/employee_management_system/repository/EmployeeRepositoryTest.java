@@ -0,0 +1,81 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class EmployeeRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Department hr;
+    private Department it;
+    private Project projectA;
+
+    @BeforeEach
+    void setUp() {
+        // Persisting a small org chart into the embedded database
+        hr = entityManager.persist(new Department("HR"));
+        it = entityManager.persist(new Department("IT"));
+        projectA = entityManager.persist(new Project("Project A"));
+
+        entityManager.persist(new Employee("Alice", "HR Manager", hr));
+        entityManager.persist(new Employee("Jason", "IT Specialist", it, List.of(projectA)));
+        entityManager.persist(new Employee("David", "Software Engineer", it, List.of(projectA)));
+        entityManager.persist(new Employee("John", "IT Specialist", it));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testFindViewPageWalksKeysetInIdOrder() {
+        List<EmployeeView> first = employeeRepository.findViewPage(0L, null, null, null, Limit.of(2));
+        assertEquals(List.of("Alice", "Jason"), first.stream().map(EmployeeView::getName).toList());
+
+        // The next page starts strictly after the last id of the previous one
+        List<EmployeeView> second = employeeRepository.findViewPage(first.get(1).getId(), null, null, null, Limit.of(2));
+        assertEquals(List.of("David", "John"), second.stream().map(EmployeeView::getName).toList());
+    }
+
+    @Test
+    void testFindViewPageAppliesFilters() {
+        assertEquals(3, employeeRepository.findViewPage(0L, it.getId(), null, null, Limit.of(10)).size());
+        assertEquals(2, employeeRepository.findViewPage(0L, null, projectA.getId(), null, Limit.of(10)).size());
+        assertEquals(List.of("Jason", "John"), employeeRepository
+                .findViewPage(0L, it.getId(), null, "IT Specialist", Limit.of(10))
+                .stream().map(EmployeeView::getName).toList());
+        assertTrue(employeeRepository.findViewPage(0L, hr.getId(), projectA.getId(), null, Limit.of(10)).isEmpty());
+    }
+
+    @Test
+    void testFindViewPageAggregatesProjectIds() {
+        Project projectB = entityManager.persist(new Project("Project B"));
+        Employee lead = entityManager.persist(new Employee("Lead", "Tech Lead", it, List.of(projectA, projectB)));
+        entityManager.flush();
+
+        EmployeeView view = employeeRepository.findViewById(lead.getId()).orElseThrow();
+        assertEquals("Lead", view.getName());
+        assertEquals(it.getId(), view.getDepartmentId());
+        assertEquals(2, view.getProjectIds().split(",").length);
+
+        // Employees without projects come back with a null aggregate, not as missing rows
+        List<EmployeeView> page = employeeRepository.findViewPage(0L, hr.getId(), null, null, Limit.of(10));
+        assertEquals(1, page.size());
+        assertNull(page.get(0).getProjectIds());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.DTO.HeadcountDTO;
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class HeadcountQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Department it;
+    private Project projectA;
+
+    @BeforeEach
+    void setUp() {
+        Department hr = entityManager.persist(new Department("HR"));
+        it = entityManager.persist(new Department("IT"));
+        entityManager.persist(new Department("Legal"));
+        projectA = entityManager.persist(new Project("Project A"));
+        Project projectB = entityManager.persist(new Project("Project B"));
+
+        entityManager.persist(new Employee("Alice", "HR Manager", hr, List.of(projectB)));
+        entityManager.persist(new Employee("Jason", "IT Specialist", it, List.of(projectA, projectB)));
+        entityManager.persist(new Employee("David", "Software Engineer", it, List.of(projectA)));
+        entityManager.persist(new Employee("John", "IT Specialist", it));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testDepartmentHeadcountsIncludeEmptyDepartments() {
+        assertEquals(List.of("HR=1", "IT=3", "Legal=0"), rows(departmentRepository.countEmployees(null, null)));
+        // Filtered departments keep their row with a count of 0
+        assertEquals(List.of("HR=0", "IT=2", "Legal=0"),
+                rows(departmentRepository.countEmployees("IT Specialist", null)));
+        assertEquals(List.of("HR=0", "IT=2", "Legal=0"),
+                rows(departmentRepository.countEmployees(null, projectA.getId())));
+    }
+
+    @Test
+    void testDepartmentHeadcountsByPosition() {
+        assertEquals(List.of("HR/HR Manager=1", "IT/IT Specialist=2", "IT/Software Engineer=1"),
+                rows(departmentRepository.countEmployeesByPosition(null, null)));
+        assertEquals(List.of("IT/IT Specialist=1", "IT/Software Engineer=1"),
+                rows(departmentRepository.countEmployeesByPosition(null, projectA.getId())));
+    }
+
+    @Test
+    void testProjectHeadcountsCountAssignments() {
+        assertEquals(List.of("Project A=2", "Project B=2"), rows(projectRepository.countEmployees(null, null)));
+        assertEquals(List.of("Project A=2", "Project B=1"), rows(projectRepository.countEmployees(null, it.getId())));
+        assertEquals(List.of("Project A=0", "Project B=1"),
+                rows(projectRepository.countEmployees("HR Manager", null)));
+        assertEquals(List.of("Project A/IT Specialist=1", "Project A/Software Engineer=1"),
+                rows(projectRepository.countEmployeesByPosition(null, it.getId())).subList(0, 2));
+    }
+
+    private static List<String> rows(List<HeadcountDTO> headcounts) {
+        return headcounts.stream()
+                .map(row -> row.getName() + (row.getPosition() == null ? "" : "/" + row.getPosition())
+                        + "=" + row.getHeadcount())
+                .toList();
+    }
+}
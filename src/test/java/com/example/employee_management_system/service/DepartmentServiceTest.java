@@ -3,11 +3,14 @@ package com.example.employee_management_system.service;
 import com.example.employee_management_system.exception.ResourceNotFoundException;
 import com.example.employee_management_system.model.Department;
 import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.repository.EmployeeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +24,18 @@ class DepartmentServiceTest {
     @Mock
     private DepartmentRepository departmentRepository; // Mocking the DepartmentRepository dependency
 
+    @Mock
+    private EmployeeRepository employeeRepository; // Mocking the repository reassignments go through
+
+    @Mock
+    private HeadcountService headcountService; // Mocking the headcount counters
+
+    @Mock
+    private JdbcTemplate jdbcTemplate; // Mocking the row locks taken before a reassignment
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher; // Mocking the change event publisher
+
     @InjectMocks
     private DepartmentService departmentService; // Injecting the mock into DepartmentService
 
@@ -119,6 +134,7 @@ class DepartmentServiceTest {
 
     @Test
     void testDeleteById() {
+        when(departmentRepository.existsById(1L)).thenReturn(true);
 
         // Calling the deleteById method
         departmentService.deleteById(1L);
@@ -127,4 +143,24 @@ class DepartmentServiceTest {
         // Verify deleteById(1L)
         verify(departmentRepository, times(1)).deleteById(1L);
     }
+
+    @Test
+    void testDeleteMissingDepartment() {
+        when(departmentRepository.existsById(1L)).thenReturn(false);
+
+        // Nothing is deleted and no change is announced
+        assertThrows(ResourceNotFoundException.class, () -> departmentService.deleteById(1L));
+        verify(departmentRepository, never()).deleteById(1L);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testReassignToSameDepartmentIsRejected() {
+
+        // Moving employees into the department they are already in is a mistake
+        assertThrows(IllegalArgumentException.class, () -> departmentService.reassignEmployees(1L, 1L));
+
+        // Verify nothing was written
+        verifyNoInteractions(employeeRepository, headcountService);
+    }
 }
@@ -0,0 +1,98 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.BatchItemResultDTO;
+import com.example.employee_management_system.DTO.BatchResultDTO;
+import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({EmployeeBatchService.class, EmployeeIdService.class, HeadcountService.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+class EmployeeBatchServiceTest {
+
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Department department;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        department = entityManager.persist(new Department("HR"));
+        project = entityManager.persist(new Project("Project A"));
+        entityManager.flush();
+    }
+
+    @Test
+    void testCreateAllInsertsValidItemsAndReportsFailures() {
+        List<EmployeeDTO> batch = List.of(
+                employee("Alice", department.getId(), List.of(project.getId(), project.getId())),
+                employee("", department.getId(), List.of()),
+                employee("Jason", -1L, List.of()),
+                employee("Carren", department.getId(), List.of(-2L)));
+
+        BatchResultDTO result = employeeBatchService.createAll(batch);
+
+        assertEquals(1, result.getCreated());
+        assertEquals(3, result.getFailed());
+        assertEquals(BatchItemResultDTO.Status.CREATED, result.getResults().get(0).getStatus());
+        assertNotNull(result.getResults().get(0).getEmployee().getId());
+        assertEquals("Name must not be empty", result.getResults().get(1).getError());
+        assertEquals("Department not found: -1", result.getResults().get(2).getError());
+        assertEquals("Projects not found: [-2]", result.getResults().get(3).getError());
+
+        // Duplicate project IDs of an item are stored once
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee_project", Integer.class));
+    }
+
+    @Test
+    void testCreateAllSpansSeveralChunks() {
+        List<EmployeeDTO> batch = new ArrayList<>();
+        for (int i = 0; i < EmployeeBatchService.CHUNK_SIZE + 10; i++) {
+            batch.add(employee("Employee " + i, department.getId(), List.of(project.getId())));
+        }
+
+        BatchResultDTO result = employeeBatchService.createAll(batch);
+
+        assertEquals(batch.size(), result.getCreated());
+        // Generated IDs are handed back in request order
+        List<Long> ids = result.getResults().stream().map(item -> item.getEmployee().getId()).toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertEquals(batch.size(), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee", Integer.class));
+    }
+
+    @Test
+    void testCreateAllRejectsEmptyBatch() {
+        assertThrows(IllegalArgumentException.class, () -> employeeBatchService.createAll(List.of()));
+    }
+
+    private static EmployeeDTO employee(String name, Long departmentId, List<Long> projectIds) {
+        EmployeeDTO employee = new EmployeeDTO();
+        employee.setName(name);
+        employee.setPosition("Analyst");
+        employee.setDepartmentId(departmentId);
+        employee.setProjectIds(projectIds);
+        return employee;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(EmployeeIdService.class)
+// IDs are reserved in transactions of their own, so every write here commits on its own
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeIdServiceTest {
+
+    private static final String INSERT_LEGACY = "INSERT INTO employee (id, name, position, department_id, version)"
+            + " VALUES (?, 'Old', 'Clerk', ?, 0)";
+
+    @Autowired
+    private EmployeeIdService employeeIdService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testIdsStartAboveRowsInsertedBeforeTheGenerator() {
+        Department department = departmentRepository.save(new Department("Legacy"));
+        // A row with an AUTO_INCREMENT ID well above anything allocated so far
+        long legacyId = employeeIdService.reserve(1) + 10_000;
+        jdbcTemplate.update(INSERT_LEGACY, legacyId, department.getId());
+
+        employeeIdService.seed();
+        long first = employeeIdService.reserve(3);
+        assertEquals(legacyId + 1, first);
+
+        // Seeding again changes nothing
+        employeeIdService.seed();
+        assertEquals(first + 3, employeeIdService.reserve(1));
+
+        // Hibernate allocates its blocks from the same row
+        Employee saved = employeeRepository.save(new Employee("New", "Clerk", department));
+        assertTrue(saved.getId() > first + 3);
+
+        employeeRepository.deleteAllById(List.of(legacyId, saved.getId()));
+        departmentRepository.delete(department);
+    }
+
+    @Test
+    void testMissingRowIsCreatedAboveExistingIds() {
+        Department department = departmentRepository.save(new Department("Fresh"));
+        jdbcTemplate.update(INSERT_LEGACY, 500_000L, department.getId());
+        jdbcTemplate.update("DELETE FROM " + Employee.ID_TABLE);
+
+        employeeIdService.seed();
+        assertEquals(500_001L, employeeIdService.reserve(1));
+
+        jdbcTemplate.update("DELETE FROM employee WHERE id = ?", 500_000L);
+        departmentRepository.delete(department);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.ImportResultDTO;
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({EmployeeImportService.class, EmployeeBatchService.class, EmployeeIdService.class, HeadcountService.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+class EmployeeImportServiceTest {
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        department = entityManager.persist(new Department("HR"));
+        entityManager.persist(new Project("Payroll"));
+        entityManager.persist(new Project("Hiring"));
+        entityManager.persist(new Project("Audit"));
+        entityManager.persist(new Project("Audit"));
+        entityManager.flush();
+    }
+
+    @Test
+    void testImportResolvesNamesAndReportsRejectedRows() throws IOException {
+        String csv = """
+                name,position,department,projects
+                Alice,Recruiter,HR,Payroll;Hiring
+                Bob,Clerk,HR,
+                ,Clerk,HR,Payroll
+                Carol,Clerk,Finance,Payroll
+                Dan,Auditor,HR,Audit;Unknown
+                Eve,Clerk
+                """;
+
+        ImportResultDTO result = employeeImportService.importCsv(stream(csv));
+
+        assertEquals(6, result.getRowsRead());
+        assertEquals(2, result.getImported());
+        assertEquals(4, result.getRejected());
+        assertFalse(result.isRejectionsTruncated());
+        assertEquals(4, result.getRejections().get(0).getLine());
+        assertEquals("Name must not be empty", result.getRejections().get(0).getError());
+        assertEquals("Department not found: Finance", result.getRejections().get(1).getError());
+        // Duplicate names cannot be resolved any more than unknown ones
+        assertEquals("Projects not found or not unique: [Audit, Unknown]", result.getRejections().get(2).getError());
+        assertEquals("Expected 4 columns but found 2", result.getRejections().get(3).getError());
+
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employee WHERE department_id = ?", Integer.class, department.getId()));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee_project", Integer.class));
+    }
+
+    @Test
+    void testRejectionsReportTheLineTheRowStartsOn() throws IOException {
+        // A quoted value spanning lines, and an empty line, come before the rejected row
+        String csv = """
+                name,position,department
+                Alice,"Recruiter,
+                part time",HR
+
+                Bob,Clerk,Finance
+                """;
+
+        ImportResultDTO result = employeeImportService.importCsv(stream(csv));
+
+        assertEquals(2, result.getRowsRead());
+        assertEquals(1, result.getImported());
+        assertEquals(5, result.getRejections().get(0).getLine());
+    }
+
+    @Test
+    void testImportSpansSeveralChunksAndCapsReportedRejections() throws IOException {
+        StringBuilder csv = new StringBuilder("name,position,department\n");
+        int rows = EmployeeImportService.CHUNK_SIZE * 2 + 10;
+        for (int i = 0; i < rows; i++) {
+            // Every other row has an unknown department
+            csv.append("Employee ").append(i).append(",Engineer,").append(i % 2 == 0 ? "HR" : "Nowhere").append('\n');
+        }
+
+        ImportResultDTO result = employeeImportService.importCsv(stream(csv.toString()));
+
+        assertEquals(rows, result.getRowsRead());
+        assertEquals(rows / 2, result.getImported());
+        assertEquals(rows / 2, result.getRejected());
+        assertEquals(EmployeeImportService.MAX_REPORTED_REJECTIONS, result.getRejections().size());
+        assertTrue(result.isRejectionsTruncated());
+        assertEquals(rows / 2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee", Integer.class));
+    }
+
+    @Test
+    void testImportRejectsFileWithoutRequiredColumns() {
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeImportService.importCsv(stream("name,department\nAlice,HR\n")));
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.EmployeeSearchHitDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeSearchIndexTest {
+
+    private EmployeeSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeSearchIndex();
+        index.put(1L, "John Smith", "Software Engineer");
+        index.put(2L, "Johanna Berg", "Engineering Manager");
+        index.put(3L, "Amélie Joly", "Recruiter");
+        index.put(4L, "Peter Engel", "Accountant");
+    }
+
+    @Test
+    void testSearchMatchesWordPrefixesAndRanksNameMatchesFirst() {
+        List<EmployeeSearchHitDTO> hits = index.search("jo", 10);
+
+        assertEquals(List.of(1L, 3L, 2L), ids(hits));
+        // Every query word must match; accents and case are ignored
+        assertEquals(List.of(3L), ids(index.search("AMELIE recr", 10)));
+        assertEquals(List.of(1L, 2L), ids(index.search("jo eng", 10)));
+        assertEquals(List.of(1L), ids(index.search("jo eng", 1)));
+    }
+
+    @Test
+    void testExactWordOutranksPrefixAndNameOutranksPosition() {
+        List<EmployeeSearchHitDTO> hits = index.search("engel", 10);
+        assertEquals(List.of(4L), ids(hits));
+
+        hits = index.search("eng", 10);
+        // Prefix of a name word (Engel) scores above prefix of a position word
+        assertEquals(4L, hits.get(0).getId());
+        assertEquals(EmployeeSearchIndex.NAME_PREFIX, hits.get(0).getScore());
+        assertEquals(EmployeeSearchIndex.POSITION_PREFIX, hits.get(1).getScore());
+    }
+
+    @Test
+    void testUpdatesReplaceAndRemoveTokens() {
+        index.put(1L, "Jonathan Smith", "Architect");
+        assertTrue(index.search("software", 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("architect", 10)));
+
+        index.remove(1L);
+        assertTrue(index.search("smith", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    private static List<Long> ids(List<EmployeeSearchHitDTO> hits) {
+        return hits.stream().map(EmployeeSearchHitDTO::getId).toList();
+    }
+}
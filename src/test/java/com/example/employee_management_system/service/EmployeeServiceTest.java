@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -31,6 +32,12 @@ class EmployeeServiceTest {
     @Mock
     private ProjectRepository projectRepository; // Mocking the ProjectRepository dependency
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher; // Mocking the change event publisher
+
+    @Mock
+    private HeadcountService headcountService; // Mocking the headcount counters
+
     @InjectMocks
     private EmployeeService employeeService; // Injecting mocks into EmployeeService
 
@@ -0,0 +1,173 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.EmployeeDTO;
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({HeadcountService.class, EmployeeService.class, EmployeeBatchService.class, EmployeeIdService.class,
+        ProjectAssignmentService.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+// Every call commits on its own, as it does when called from a controller
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HeadcountServiceTest {
+
+    @Autowired
+    private HeadcountService headcountService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Department hr;
+    private Department it;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        hr = departmentRepository.save(new Department("HR"));
+        it = departmentRepository.save(new Department("IT"));
+        project = projectRepository.save(new Project("Project A"));
+        headcountService.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM employee_project");
+        jdbcTemplate.update("DELETE FROM employee");
+        jdbcTemplate.update("DELETE FROM project");
+        jdbcTemplate.update("DELETE FROM department");
+        jdbcTemplate.update("DELETE FROM headcount");
+    }
+
+    @Test
+    void testCountersFollowSaveMoveAndDelete() {
+        Employee saved = employeeService.save(new Employee("Alice", "Manager", hr, List.of(project)));
+        employeeService.save(new Employee("Jason", "Developer", hr));
+        assertCounts(2, 0, 1);
+
+        // Moving Alice to IT and off the project
+        Employee moved = new Employee("Alice", "Manager", it, new ArrayList<>());
+        moved.setId(saved.getId());
+        employeeService.save(moved);
+        assertCounts(1, 1, 0);
+
+        employeeService.deleteById(saved.getId());
+        assertCounts(1, 0, 0);
+    }
+
+    @Test
+    void testBatchInsertsAreCounted() {
+        List<EmployeeDTO> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            EmployeeDTO employee = new EmployeeDTO();
+            employee.setName("Employee " + i);
+            employee.setPosition("Developer");
+            employee.setDepartmentId(it.getId());
+            employee.setProjectIds(List.of(project.getId()));
+            batch.add(employee);
+        }
+
+        employeeBatchService.createAll(batch);
+
+        assertCounts(0, 3, 3);
+    }
+
+    @Test
+    void testReconcileRepairsDrift() {
+        employeeService.save(new Employee("Alice", "Manager", hr, List.of(project)));
+        jdbcTemplate.update("UPDATE headcount SET headcount = 42 WHERE scope = 'DEPARTMENT' AND ref_id = ?", hr.getId());
+        jdbcTemplate.update("DELETE FROM headcount WHERE scope = 'PROJECT'");
+
+        headcountService.reconcile();
+
+        assertCounts(1, 0, 1);
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT headcount FROM headcount WHERE scope = 'DEPARTMENT' AND ref_id = ?", Long.class, hr.getId()));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT headcount FROM headcount WHERE scope = 'PROJECT' AND ref_id = ?", Long.class, project.getId()));
+    }
+
+    @Test
+    void testReconcileKeepsConcurrentWrites() throws Exception {
+        employeeService.save(new Employee("Alice", "Manager", hr));
+        jdbcTemplate.update("UPDATE headcount SET headcount = 42 WHERE scope = 'DEPARTMENT' AND ref_id = ?", hr.getId());
+
+        // A write holds the HR counter when the reconciliation counts, and commits while it waits for the row
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> {
+                        employeeService.save(new Employee("Jason", "Developer", hr));
+                        written.countDown();
+                        await(commit);
+                    }));
+            assertTrue(written.await(5, TimeUnit.SECONDS));
+            Future<?> reconciliation = executor.submit(headcountService::reconcile);
+            Thread.sleep(200);
+            commit.countDown();
+            writer.get(5, TimeUnit.SECONDS);
+            reconciliation.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertCounts(2, 0, 0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void assertCounts(long hrCount, long itCount, long projectCount) {
+        assertEquals(hrCount, headcountService.departmentHeadcount(hr.getId()));
+        assertEquals(itCount, headcountService.departmentHeadcount(it.getId()));
+        assertEquals(projectCount, headcountService.projectHeadcount(project.getId()));
+    }
+}
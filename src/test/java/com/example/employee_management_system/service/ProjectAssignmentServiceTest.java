@@ -0,0 +1,208 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.DTO.StaffingChangeDTO;
+import com.example.employee_management_system.DTO.StaffingResultDTO;
+import com.example.employee_management_system.exception.ResourceNotFoundException;
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Employee;
+import com.example.employee_management_system.model.Project;
+import com.example.employee_management_system.repository.DepartmentRepository;
+import com.example.employee_management_system.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.employee_management_system.DTO.StaffingChangeDTO.Action.ADD;
+import static com.example.employee_management_system.DTO.StaffingChangeDTO.Action.REMOVE;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ProjectAssignmentService.class, HeadcountService.class, EmployeeService.class})
+// Every call commits on its own, as it does when called from a controller
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectAssignmentServiceTest {
+
+    @Autowired
+    private ProjectAssignmentService projectAssignmentService;
+
+    @Autowired
+    private HeadcountService headcountService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project apollo;
+    private Project gemini;
+    private Project mercury;
+    private Department department;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentRepository.save(new Department("Engineering"));
+        apollo = projectRepository.save(new Project("Apollo"));
+        gemini = projectRepository.save(new Project("Gemini"));
+        mercury = projectRepository.save(new Project("Mercury"));
+        employee = employeeService.save(new Employee("Alice", "Engineer", department, List.of(apollo, gemini)));
+        headcountService.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM employee_project");
+        jdbcTemplate.update("DELETE FROM employee");
+        jdbcTemplate.update("DELETE FROM project");
+        jdbcTemplate.update("DELETE FROM department");
+        jdbcTemplate.update("DELETE FROM headcount");
+    }
+
+    @Test
+    void testOnlyChangedRowsAreWritten() {
+        long untouchedRow = rowId(gemini);
+        long version = version();
+
+        Set<Long> projectIds = projectAssignmentService.changeProjects(employee.getId(),
+                Set.of(mercury.getId(), gemini.getId()), Set.of(apollo.getId()));
+
+        assertEquals(Set.of(gemini.getId(), mercury.getId()), projectIds);
+        assertEquals(Set.copyOf(projectIds), Set.copyOf(assignedProjects()));
+        // The row that stays assigned was neither deleted nor re-inserted
+        assertEquals(untouchedRow, rowId(gemini));
+        assertEquals(version + 1, version());
+        assertEquals(0, headcountService.projectHeadcount(apollo.getId()));
+        assertEquals(1, headcountService.projectHeadcount(mercury.getId()));
+    }
+
+    @Test
+    void testRepeatedChangeWritesNothing() {
+        projectAssignmentService.changeProjects(employee.getId(), Set.of(mercury.getId()), Set.of());
+        long version = version();
+
+        projectAssignmentService.changeProjects(employee.getId(), Set.of(mercury.getId()), Set.of());
+
+        assertEquals(version, version());
+        assertEquals(1, headcountService.projectHeadcount(mercury.getId()));
+    }
+
+    @Test
+    void testReplaceKeepsCommonAssignments() {
+        long untouchedRow = rowId(apollo);
+
+        projectAssignmentService.replaceProjects(employee.getId(), List.of(apollo.getId(), mercury.getId()));
+
+        assertEquals(Set.of(apollo.getId(), mercury.getId()), Set.copyOf(assignedProjects()));
+        assertEquals(untouchedRow, rowId(apollo));
+        assertEquals(0, headcountService.projectHeadcount(gemini.getId()));
+    }
+
+    @Test
+    void testInvalidChangesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> projectAssignmentService.changeProjects(
+                employee.getId(), Set.of(mercury.getId()), Set.of(mercury.getId())));
+        assertThrows(IllegalArgumentException.class, () -> projectAssignmentService.changeProjects(
+                employee.getId(), Arrays.asList(mercury.getId(), null), Set.of()));
+        assertThrows(ResourceNotFoundException.class, () -> projectAssignmentService.changeProjects(
+                employee.getId(), Set.of(-1L), Set.of()));
+        assertThrows(ResourceNotFoundException.class, () -> projectAssignmentService.changeProjects(
+                -1L, Set.of(), Set.of(apollo.getId())));
+        assertEquals(Set.of(apollo.getId(), gemini.getId()), Set.copyOf(assignedProjects()));
+    }
+
+    @Test
+    void testMissingListsChangeNothing() {
+        assertEquals(Set.of(apollo.getId(), gemini.getId()),
+                projectAssignmentService.changeProjects(employee.getId(), null, null));
+        assertEquals(Set.of(apollo.getId()),
+                projectAssignmentService.changeProjects(employee.getId(), null, Set.of(gemini.getId())));
+    }
+
+    @Test
+    void testStaffingChangesManyEmployeesAtOnce() {
+        Employee bob = employeeService.save(new Employee("Bob", "Engineer", department, List.of(apollo)));
+        Employee carol = employeeService.save(new Employee("Carol", "Engineer", department, List.of()));
+        headcountService.reconcile();
+
+        StaffingResultDTO result = projectAssignmentService.applyStaffing(List.of(
+                new StaffingChangeDTO(employee.getId(), apollo.getId(), REMOVE),
+                new StaffingChangeDTO(bob.getId(), apollo.getId(), REMOVE),
+                new StaffingChangeDTO(bob.getId(), mercury.getId(), ADD),
+                new StaffingChangeDTO(carol.getId(), mercury.getId(), ADD),
+                // Already in place
+                new StaffingChangeDTO(employee.getId(), gemini.getId(), ADD)));
+
+        assertEquals(2, result.getAdded());
+        assertEquals(2, result.getRemoved());
+        assertEquals(3, result.getEmployeesChanged());
+        assertEquals(Set.of(gemini.getId()), Set.copyOf(assignedProjects(employee)));
+        assertEquals(Set.of(mercury.getId()), Set.copyOf(assignedProjects(bob)));
+        assertEquals(Set.of(mercury.getId()), Set.copyOf(assignedProjects(carol)));
+        assertEquals(0, headcountService.projectHeadcount(apollo.getId()));
+        assertEquals(2, headcountService.projectHeadcount(mercury.getId()));
+    }
+
+    @Test
+    void testStaffingIsAllOrNothing() {
+        List<StaffingChangeDTO> changes = List.of(
+                new StaffingChangeDTO(employee.getId(), mercury.getId(), ADD),
+                new StaffingChangeDTO(-1L, mercury.getId(), ADD));
+
+        ResourceNotFoundException e = assertThrows(ResourceNotFoundException.class,
+                () -> projectAssignmentService.applyStaffing(changes));
+        assertTrue(e.getMessage().contains("-1"));
+        assertEquals(Set.of(apollo.getId(), gemini.getId()), Set.copyOf(assignedProjects()));
+        assertThrows(IllegalArgumentException.class, () -> projectAssignmentService.applyStaffing(
+                List.of(new StaffingChangeDTO(employee.getId(), null, ADD))));
+    }
+
+    @Test
+    void testMembersAreChangedPerProject() {
+        Employee bob = employeeService.save(new Employee("Bob", "Engineer", department, List.of()));
+
+        StaffingResultDTO result = projectAssignmentService.changeMembers(mercury.getId(),
+                Set.of(employee.getId(), bob.getId()), Set.of());
+
+        assertEquals(2, result.getAdded());
+        assertEquals(Set.of(mercury.getId()), Set.copyOf(assignedProjects(bob)));
+        assertThrows(ResourceNotFoundException.class,
+                () -> projectAssignmentService.changeMembers(-1L, Set.of(bob.getId()), Set.of()));
+    }
+
+    private List<Long> assignedProjects() {
+        return assignedProjects(employee);
+    }
+
+    private List<Long> assignedProjects(Employee employee) {
+        return jdbcTemplate.queryForList("SELECT project_id FROM employee_project WHERE employee_id = ?",
+                Long.class, employee.getId());
+    }
+
+    // H2's row identifier changes when a row is deleted and inserted again
+    private long rowId(Project project) {
+        return jdbcTemplate.queryForObject(
+                "SELECT _ROWID_ FROM employee_project WHERE employee_id = ? AND project_id = ?",
+                Long.class, employee.getId(), project.getId());
+    }
+
+    private long version() {
+        return jdbcTemplate.queryForObject("SELECT version FROM employee WHERE id = ?", Long.class, employee.getId());
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -21,6 +22,9 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository; // Mocking the ProjectRepository dependency
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher; // Mocking the change event publisher
+
     @InjectMocks
     private ProjectService projectService; // Injecting the mock into ProjectService
 
@@ -111,10 +115,21 @@ class ProjectServiceTest {
 
     @Test
     void testDeleteById() {
+        when(projectRepository.existsById(1L)).thenReturn(true);
         // Calling the deleteById method
         projectService.deleteById(1L);
 
         // Verifying that deleteById(1L) was called exactly once on the repository
         verify(projectRepository, times(1)).deleteById(1L);
     }
+
+    @Test
+    void testDeleteMissingProject() {
+        when(projectRepository.existsById(1L)).thenReturn(false);
+
+        // Nothing is deleted and no change is announced
+        assertThrows(ResourceNotFoundException.class, () -> projectService.deleteById(1L));
+        verify(projectRepository, never()).deleteById(1L);
+        verifyNoInteractions(eventPublisher);
+    }
 }
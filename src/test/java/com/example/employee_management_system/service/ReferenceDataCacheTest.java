@@ -0,0 +1,80 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.model.Department;
+import com.example.employee_management_system.model.Project;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that departments and projects are served from the second-level cache
+ * and that writes through the services never leave stale entries behind.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testDepartmentReadsHitCacheAndSeeUpdates() {
+        Long id = departmentService.save(new Department("Finance")).getId();
+        departmentService.findById(id);
+        statistics.clear();
+
+        departmentService.findById(id);
+        departmentService.findById(id);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+
+        Department department = departmentService.findById(id);
+        department.setName("Finance & Accounting");
+        departmentService.save(department);
+        assertEquals("Finance & Accounting", departmentService.findById(id).getName());
+
+        departmentService.deleteById(id);
+        assertNull(departmentService.findById(id));
+    }
+
+    @Test
+    void testProjectLookupsByIdHitQueryAndEntityCache() {
+        Long first = projectService.save(new Project("Apollo")).getId();
+        Long second = projectService.save(new Project("Gemini")).getId();
+
+        projectService.findAllById(List.of(first, second));
+        statistics.clear();
+
+        List<Project> projects = projectService.findAllById(List.of(first, second));
+        assertEquals(2, projects.size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        // Writing the table invalidates the cached query result
+        projectService.deleteById(second);
+        assertEquals(1, projectService.findAllById(List.of(first, second)).size());
+        projectService.deleteById(first);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.employee_management_system.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ResourceVersionService.class)
+// Counters are bumped when the writing transaction commits, so every write here commits on its own
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ResourceVersionServiceTest {
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // A second application instance sharing the database
+    private ResourceVersionService otherInstance;
+
+    @BeforeEach
+    void setUp() {
+        otherInstance = beanFactory.createBean(ResourceVersionService.class);
+    }
+
+    @Test
+    void testWriteOnOneInstanceChangesETagOnAnother() {
+        String etag = otherInstance.etag(ResourceType.DEPARTMENT);
+        assertEquals(etag, resourceVersionService.etag(ResourceType.DEPARTMENT));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            resourceVersionService.onResourceChanged(ResourceChangedEvent.saved(ResourceType.DEPARTMENT, 1L));
+            resourceVersionService.onResourceChanged(ResourceChangedEvent.deleted(ResourceType.DEPARTMENT, 2L));
+        });
+
+        String newEtag = otherInstance.etag(ResourceType.DEPARTMENT);
+        assertNotEquals(etag, newEtag);
+        assertEquals(newEtag, resourceVersionService.etag(ResourceType.DEPARTMENT));
+        // A restarted instance starts from the stored counters
+        assertEquals(newEtag, beanFactory.createBean(ResourceVersionService.class).etag(ResourceType.DEPARTMENT));
+    }
+
+    @Test
+    void testRolledBackWriteKeepsETag() {
+        String etag = otherInstance.etag(ResourceType.PROJECT, ResourceType.EMPLOYEE);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            resourceVersionService.onResourceChanged(ResourceChangedEvent.saved(ResourceType.EMPLOYEE, 1L));
+            status.setRollbackOnly();
+        });
+        assertEquals(etag, otherInstance.etag(ResourceType.PROJECT, ResourceType.EMPLOYEE));
+
+        resourceVersionService.onResourceChanged(ResourceChangedEvent.saved(ResourceType.EMPLOYEE, 1L));
+        assertNotEquals(etag, otherInstance.etag(ResourceType.PROJECT, ResourceType.EMPLOYEE));
+    }
+}
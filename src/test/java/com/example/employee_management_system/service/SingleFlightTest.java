@@ -0,0 +1,102 @@
+package com.example.employee_management_system.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testConcurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<Long, String> lookups = new SingleFlight<>("test", Duration.ZERO, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> lookups.get(1L, id -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "employee " + id;
+                })));
+            }
+            // Let every caller arrive before the single load finishes
+            while (count("coalesced") + count("load") < callers) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("employee 1", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, count("load"));
+        assertEquals(callers - 1, count("coalesced"));
+    }
+
+    @Test
+    void testFailuresAreNotCached() {
+        SingleFlight<Long, String> lookups = new SingleFlight<>("test", Duration.ofMinutes(1), meterRegistry);
+
+        assertThrows(IllegalStateException.class, () -> lookups.get(1L, id -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertEquals("recovered", lookups.get(1L, id -> "recovered"));
+    }
+
+    @Test
+    void testTtlCacheIsInvalidated() {
+        SingleFlight<Long, String> lookups = new SingleFlight<>("test", Duration.ofMinutes(1), meterRegistry);
+
+        assertEquals("v1", lookups.get(1L, id -> "v1"));
+        assertEquals("v1", lookups.get(1L, id -> "v2"));
+        assertEquals(1, count("hit"));
+
+        lookups.invalidate(1L);
+        assertEquals("v2", lookups.get(1L, id -> "v2"));
+    }
+
+    @Test
+    void testLoadOverlappingAnInvalidationIsNotCached() {
+        SingleFlight<Long, String> lookups = new SingleFlight<>("test", Duration.ofMinutes(1), meterRegistry);
+
+        // The row changes while it is being read: the result may already be stale
+        assertEquals("old", lookups.get(1L, id -> {
+            lookups.invalidate(id);
+            return "old";
+        }));
+        assertEquals("new", lookups.get(1L, id -> "new"));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("ems.lookup.requests").tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}